@@ -1,5 +1,6 @@
 CREATE TABLE IF NOT EXISTS "swift_code" (
 swift_code VARCHAR(11) PRIMARY KEY,
+bic8 VARCHAR(8) NOT NULL,
 countryiso2 CHAR(2)  NOT NULL,
 name VARCHAR(200) NOT NULL,
 address VARCHAR(150),
@@ -8,4 +9,32 @@ is_headquarter BOOLEAN NOT NULL
 );
 
 CREATE INDEX IF NOT EXISTS idx_swift_code ON swift_code(swift_code);
-CREATE INDEX IF NOT EXISTS idx_country_iso2 ON swift_code(countryiso2);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_swift_code_bic8 ON swift_code(bic8);
+CREATE INDEX IF NOT EXISTS idx_country_iso2_swift_code ON swift_code(countryiso2, swift_code);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_swift_code_headquarter ON swift_code(bic8) WHERE is_headquarter;
+
+CREATE TABLE IF NOT EXISTS "country" (
+iso2 CHAR(2) PRIMARY KEY,
+country_name VARCHAR(100) NOT NULL,
+code_count BIGINT NOT NULL,
+headquarter_count BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS "bank" (
+bic8 VARCHAR(8) PRIMARY KEY,
+name VARCHAR(200) NOT NULL,
+code_count BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS "swift_code_change" (
+sequence_number BIGSERIAL PRIMARY KEY,
+swift_code VARCHAR(11) NOT NULL,
+operation VARCHAR(10) NOT NULL,
+changed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS "swift_code_change_lock" (
+id INT PRIMARY KEY
+);
+
+INSERT INTO swift_code_change_lock (id) VALUES (1) ON CONFLICT DO NOTHING;
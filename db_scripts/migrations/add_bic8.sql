@@ -0,0 +1,10 @@
+-- Adds the bic8 column to a swift_code table created before it existed. Safe to run more than once.
+
+BEGIN;
+
+ALTER TABLE swift_code ADD COLUMN IF NOT EXISTS bic8 VARCHAR(8);
+UPDATE swift_code SET bic8 = left(swift_code, 8) WHERE bic8 IS NULL;
+ALTER TABLE swift_code ALTER COLUMN bic8 SET NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_swift_code_bic8 ON swift_code(bic8);
+
+COMMIT;
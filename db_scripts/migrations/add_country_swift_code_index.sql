@@ -0,0 +1,5 @@
+-- Replaces the single-column country index with the composite one used by keyset pagination.
+-- Safe to run more than once.
+
+CREATE INDEX IF NOT EXISTS idx_country_iso2_swift_code ON swift_code(countryiso2, swift_code);
+DROP INDEX IF EXISTS idx_country_iso2;
@@ -0,0 +1,33 @@
+-- Adds the partial unique index that allows one headquarter per BIC8.
+-- On a database already migrated with normalize_bank_country.sql the index goes on swift_code_branch,
+-- and the view's insert trigger is replaced so that a conflicting insert is skipped instead of failing.
+-- Safe to run more than once.
+
+BEGIN;
+
+DO $migration$
+BEGIN
+    IF to_regclass('swift_code_branch') IS NULL THEN
+        CREATE UNIQUE INDEX IF NOT EXISTS idx_swift_code_headquarter ON swift_code(bic8) WHERE is_headquarter;
+    ELSE
+        CREATE UNIQUE INDEX IF NOT EXISTS idx_swift_code_headquarter ON swift_code_branch(bic8) WHERE is_headquarter;
+        CREATE OR REPLACE FUNCTION swift_code_insert() RETURNS trigger AS $function$
+        BEGIN
+            INSERT INTO bank (bic8, name, code_count) VALUES (NEW.bic8, NEW.name, 0)
+            ON CONFLICT (bic8) DO NOTHING;
+            INSERT INTO country (iso2, country_name, code_count, headquarter_count) VALUES (NEW.countryiso2, NEW.country_name, 0, 0)
+            ON CONFLICT (iso2) DO NOTHING;
+            INSERT INTO swift_code_branch (swift_code, bic8, countryiso2, address, is_headquarter)
+            VALUES (NEW.swift_code, NEW.bic8, NEW.countryiso2, NEW.address, NEW.is_headquarter)
+            ON CONFLICT DO NOTHING;
+            IF NOT FOUND THEN
+                RETURN NULL;
+            END IF;
+            RETURN NEW;
+        END;
+        $function$ LANGUAGE plpgsql;
+    END IF;
+END
+$migration$;
+
+COMMIT;
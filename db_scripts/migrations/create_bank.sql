@@ -0,0 +1,19 @@
+-- Creates the bank dictionary on a database created before it existed and fills it from swift_code.
+-- Safe to run more than once: an existing table and its rows are left unchanged.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS "bank" (
+bic8 VARCHAR(8) PRIMARY KEY,
+name VARCHAR(200) NOT NULL,
+code_count BIGINT NOT NULL
+);
+
+INSERT INTO bank (bic8, name, code_count)
+SELECT DISTINCT ON (bic8) bic8, name, SUM(COUNT(1)) OVER (PARTITION BY bic8)
+FROM swift_code
+GROUP BY bic8, name
+ORDER BY bic8, COUNT(1) DESC
+ON CONFLICT (bic8) DO NOTHING;
+
+COMMIT;
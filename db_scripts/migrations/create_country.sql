@@ -0,0 +1,22 @@
+-- Creates the country dictionary on a database created before it existed and fills it from swift_code.
+-- Safe to run more than once: an existing table and its rows are left unchanged.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS "country" (
+iso2 CHAR(2) PRIMARY KEY,
+country_name VARCHAR(100) NOT NULL,
+code_count BIGINT NOT NULL,
+headquarter_count BIGINT NOT NULL
+);
+
+INSERT INTO country (iso2, country_name, code_count, headquarter_count)
+SELECT DISTINCT ON (countryiso2) countryiso2, country_name,
+       SUM(COUNT(1)) OVER (PARTITION BY countryiso2),
+       SUM(SUM(CASE WHEN is_headquarter THEN 1 ELSE 0 END)) OVER (PARTITION BY countryiso2)
+FROM swift_code
+GROUP BY countryiso2, country_name
+ORDER BY countryiso2, COUNT(1) DESC
+ON CONFLICT (iso2) DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,20 @@
+-- Creates the change feed tables on a database created before they existed.
+-- swift_code_change_lock holds the single row that writers lock before appending changes, so changes commit in
+-- sequence order. Safe to run more than once.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS "swift_code_change" (
+sequence_number BIGSERIAL PRIMARY KEY,
+swift_code VARCHAR(11) NOT NULL,
+operation VARCHAR(10) NOT NULL,
+changed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS "swift_code_change_lock" (
+id INT PRIMARY KEY
+);
+
+INSERT INTO swift_code_change_lock (id) VALUES (1) ON CONFLICT DO NOTHING;
+
+COMMIT;
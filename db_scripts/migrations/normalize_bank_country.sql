@@ -0,0 +1,95 @@
+-- Optional migration to the normalized layout. Run once against an existing database,
+-- then start the application with swift.schema.normalized=true.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS "bank" (
+bic8 VARCHAR(8) PRIMARY KEY,
+name VARCHAR(200) NOT NULL,
+code_count BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS "country" (
+iso2 CHAR(2) PRIMARY KEY,
+country_name VARCHAR(100) NOT NULL,
+code_count BIGINT NOT NULL,
+headquarter_count BIGINT NOT NULL
+);
+
+DELETE FROM bank;
+INSERT INTO bank (bic8, name, code_count)
+SELECT DISTINCT ON (bic8) bic8, name, SUM(COUNT(1)) OVER (PARTITION BY bic8)
+FROM swift_code
+GROUP BY bic8, name
+ORDER BY bic8, COUNT(1) DESC;
+
+DELETE FROM country;
+INSERT INTO country (iso2, country_name, code_count, headquarter_count)
+SELECT DISTINCT ON (countryiso2) countryiso2, country_name,
+       SUM(COUNT(1)) OVER (PARTITION BY countryiso2),
+       SUM(SUM(CASE WHEN is_headquarter THEN 1 ELSE 0 END)) OVER (PARTITION BY countryiso2)
+FROM swift_code
+GROUP BY countryiso2, country_name
+ORDER BY countryiso2, COUNT(1) DESC;
+
+ALTER TABLE swift_code RENAME TO swift_code_branch;
+ALTER TABLE swift_code_branch DROP COLUMN name, DROP COLUMN country_name;
+ALTER TABLE swift_code_branch ADD CONSTRAINT fk_swift_code_branch_bank FOREIGN KEY (bic8) REFERENCES bank (bic8);
+ALTER TABLE swift_code_branch ADD CONSTRAINT fk_swift_code_branch_country FOREIGN KEY (countryiso2) REFERENCES country (iso2);
+
+CREATE VIEW swift_code AS
+SELECT s.swift_code, s.bic8, s.countryiso2, b.name, s.address, c.country_name, s.is_headquarter
+FROM swift_code_branch s
+JOIN bank b ON b.bic8 = s.bic8
+JOIN country c ON c.iso2 = s.countryiso2;
+
+CREATE FUNCTION swift_code_insert() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO bank (bic8, name, code_count) VALUES (NEW.bic8, NEW.name, 0)
+    ON CONFLICT (bic8) DO NOTHING;
+    INSERT INTO country (iso2, country_name, code_count, headquarter_count) VALUES (NEW.countryiso2, NEW.country_name, 0, 0)
+    ON CONFLICT (iso2) DO NOTHING;
+    INSERT INTO swift_code_branch (swift_code, bic8, countryiso2, address, is_headquarter)
+    VALUES (NEW.swift_code, NEW.bic8, NEW.countryiso2, NEW.address, NEW.is_headquarter)
+    ON CONFLICT DO NOTHING;
+    IF NOT FOUND THEN
+        RETURN NULL;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION swift_code_delete() RETURNS trigger AS $$
+BEGIN
+    DELETE FROM swift_code_branch WHERE swift_code = OLD.swift_code;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION swift_code_update() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO bank (bic8, name, code_count) VALUES (NEW.bic8, NEW.name, 0)
+    ON CONFLICT (bic8) DO NOTHING;
+    INSERT INTO country (iso2, country_name, code_count, headquarter_count) VALUES (NEW.countryiso2, NEW.country_name, 0, 0)
+    ON CONFLICT (iso2) DO NOTHING;
+    UPDATE swift_code_branch SET swift_code = NEW.swift_code, bic8 = NEW.bic8, countryiso2 = NEW.countryiso2,
+        address = NEW.address, is_headquarter = NEW.is_headquarter
+    WHERE swift_code = OLD.swift_code;
+    IF NEW.name IS DISTINCT FROM OLD.name THEN
+        UPDATE bank SET name = NEW.name WHERE bic8 = NEW.bic8;
+    END IF;
+    IF NEW.country_name IS DISTINCT FROM OLD.country_name THEN
+        UPDATE country SET country_name = NEW.country_name WHERE iso2 = NEW.countryiso2;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER swift_code_insert INSTEAD OF INSERT ON swift_code
+    FOR EACH ROW EXECUTE FUNCTION swift_code_insert();
+CREATE TRIGGER swift_code_update INSTEAD OF UPDATE ON swift_code
+    FOR EACH ROW EXECUTE FUNCTION swift_code_update();
+CREATE TRIGGER swift_code_delete INSTEAD OF DELETE ON swift_code
+    FOR EACH ROW EXECUTE FUNCTION swift_code_delete();
+
+COMMIT;
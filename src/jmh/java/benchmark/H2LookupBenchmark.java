@@ -0,0 +1,72 @@
+package benchmark;
+
+import org.home.exercise.swift.Application;
+import org.home.exercise.swift.component.SwiftCodeBulkWriter;
+import org.home.exercise.swift.component.SwiftCodeIndex;
+import org.home.exercise.swift.dto.Iso2ResponseDto;
+import org.home.exercise.swift.dto.SwiftCodeResponse;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.service.SwiftCodeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class H2LookupBenchmark {
+    private static final int WRITE_BATCH = 1000;
+    @Param({"10000"})
+    private int size;
+    @Param({"false", "true"})
+    private boolean indexEnabled;
+    private ConfigurableApplicationContext context;
+    private SwiftCodeService service;
+    private String[] swiftCodes;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=WARN",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--swift.index.enabled=" + indexEnabled);
+        List<SwiftCodeEntity> entities = SyntheticSwiftCodes.generate(size);
+        SwiftCodeBulkWriter writer = context.getBean(SwiftCodeBulkWriter.class);
+        for (int from = 0; from < size; from += WRITE_BATCH) {
+            writer.write(entities.subList(from, Math.min(from + WRITE_BATCH, size)));
+        }
+        SwiftCodeIndex index = context.getBean(SwiftCodeIndex.class);
+        if (index.isEnabled()) {
+            index.reload();
+        }
+        service = context.getBean(SwiftCodeService.class);
+        swiftCodes = entities.stream().map(SwiftCodeEntity::getSwiftCode).toArray(String[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SwiftCodeResponse lookup() {
+        return service.getSwiftBySwiftCode(swiftCodes[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    public Iso2ResponseDto countryListing() {
+        String swiftCode = swiftCodes[ThreadLocalRandom.current().nextInt(size)];
+        return service.getBanksInCountry(swiftCode.substring(4, 6));
+    }
+}
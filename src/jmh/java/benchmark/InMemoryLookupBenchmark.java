@@ -0,0 +1,53 @@
+package benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.home.exercise.swift.component.ImportProgress;
+import org.home.exercise.swift.component.SwiftCodeIndex;
+import org.home.exercise.swift.component.SwiftCodeResponseCache;
+import org.home.exercise.swift.component.SwiftCodeValidator;
+import org.home.exercise.swift.component.SwiftMetrics;
+import org.home.exercise.swift.dto.SwiftCodeResponse;
+import org.home.exercise.swift.service.SwiftCodeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryLookupBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+    @Param({"false", "true"})
+    private boolean cached;
+    private SwiftCodeService service;
+    private String[] swiftCodes;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        SwiftCodeIndex index = new SwiftCodeIndex(null, null, null, true, null);
+        SyntheticSwiftCodes.generate(size).forEach(index::put);
+        SwiftCodeResponseCache cache = new SwiftCodeResponseCache(cached, size, Duration.ofHours(1),
+                false, 0, Duration.ZERO);
+        service = new SwiftCodeService(null, new SwiftCodeValidator(), index, cache,
+                new SwiftMetrics(new SimpleMeterRegistry(), cache, new ImportProgress()), null, null, null);
+        swiftCodes = new String[size];
+        for (int i = 0; i < size; i++) {
+            swiftCodes[i] = SyntheticSwiftCodes.swiftCode(i);
+        }
+    }
+
+    @Benchmark
+    public SwiftCodeResponse lookup() {
+        return service.getSwiftBySwiftCode(swiftCodes[ThreadLocalRandom.current().nextInt(size)]);
+    }
+}
@@ -0,0 +1,41 @@
+package benchmark;
+
+import org.home.exercise.swift.dto.BranchListItemDto;
+import org.home.exercise.swift.dto.HeadquarterResponseDto;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+    @Param({"0", "10", "100"})
+    private int branches;
+    private SwiftCodeEntity headquarter;
+    private List<SwiftCodeEntity> branchEntities;
+    private List<BranchListItemDto> branchItems;
+
+    @Setup
+    public void setUp() {
+        List<SwiftCodeEntity> entities = SyntheticSwiftCodes.generate(branches + 1);
+        headquarter = entities.get(0);
+        branchEntities = entities.subList(1, entities.size());
+        branchItems = branchEntities.stream().map(SwiftCodeEntity::toBranchListItem).toList();
+    }
+
+    @Benchmark
+    public HeadquarterResponseDto toHeadquarter() {
+        return headquarter.toHeadquarter(branchItems);
+    }
+
+    @Benchmark
+    public HeadquarterResponseDto toHeadquarterWithBranchMapping() {
+        return headquarter.toHeadquarter(branchEntities.stream().map(SwiftCodeEntity::toBranchListItem).toList());
+    }
+}
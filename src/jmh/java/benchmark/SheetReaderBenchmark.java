@@ -0,0 +1,37 @@
+package benchmark;
+
+import org.home.exercise.swift.component.ExelSheetReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SheetReaderBenchmark {
+    @Param({"exel_test.xlsx"})
+    private String file;
+    private final ExelSheetReader reader = new ExelSheetReader();
+    private Resource resource;
+
+    @Setup
+    public void setUp() {
+        resource = new ClassPathResource(file);
+    }
+
+    @Benchmark
+    public void readStreaming(Blackhole blackhole) throws Exception {
+        reader.readStreaming(resource, blackhole::consume);
+    }
+
+    @Benchmark
+    public void readWorkbook(Blackhole blackhole) throws Exception {
+        reader.readWorkbook(resource, blackhole::consume);
+    }
+}
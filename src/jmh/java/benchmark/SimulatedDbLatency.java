@@ -0,0 +1,74 @@
+package benchmark;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+
+@Configuration
+public class SimulatedDbLatency {
+
+    @Bean
+    public static BeanPostProcessor simulatedDbLatencyPostProcessor(
+            @Value("${swift.benchmark.db-latency:0ms}") Duration latency) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !latency.isZero()) {
+                    return new SlowDataSource(dataSource, latency);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static class SlowDataSource extends DelegatingDataSource {
+        private final Duration latency;
+
+        private SlowDataSource(DataSource target, Duration latency) {
+            super(target);
+            this.latency = latency;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return proxy(Connection.class, connection, (method, result) ->
+                    result instanceof PreparedStatement statement
+                            ? proxy(PreparedStatement.class, statement, this::afterStatementCall)
+                            : result);
+        }
+
+        private Object afterStatementCall(Method method, Object result) throws InterruptedException {
+            if (method.getName().startsWith("execute")) {
+                Thread.sleep(latency);
+            }
+            return result;
+        }
+    }
+
+    private interface AfterCall {
+        Object apply(Method method, Object result) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            try {
+                return afterCall.apply(method, method.invoke(target, args));
+            } catch (InvocationTargetException exception) {
+                throw exception.getTargetException();
+            }
+        });
+    }
+}
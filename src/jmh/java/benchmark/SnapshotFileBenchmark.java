@@ -0,0 +1,64 @@
+package benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.home.exercise.swift.component.SwiftCodeIndex;
+import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.utils.BicCodec;
+import org.home.exercise.swift.utils.SwiftCodeSnapshotFile;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotFileBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+    private List<SwiftCodeEntity> entities;
+    private Path path;
+    private SwiftCodeSnapshotFile file;
+
+    @Setup
+    public void setUp() throws IOException {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        entities = SyntheticSwiftCodes.generate(size);
+        path = Files.createTempFile("swift-index", ".bin");
+        SwiftCodeSnapshotFile.write(path, entities, 0);
+        file = SwiftCodeSnapshotFile.open(path);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public SwiftCodeIndex buildHeapIndex() {
+        SwiftCodeIndex index = new SwiftCodeIndex(null, null, null, true, null);
+        entities.forEach(index::put);
+        return index;
+    }
+
+    @Benchmark
+    public SwiftCodeSnapshotFile openMappedFile() throws IOException {
+        return SwiftCodeSnapshotFile.open(path);
+    }
+
+    @Benchmark
+    public BranchDto lookupMappedFile() {
+        long key = BicCodec.encode(SyntheticSwiftCodes.swiftCode(ThreadLocalRandom.current().nextInt(size)));
+        return file.branchAt(file.indexOf(key));
+    }
+}
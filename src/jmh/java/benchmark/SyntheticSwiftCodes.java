@@ -0,0 +1,46 @@
+package benchmark;
+
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SyntheticSwiftCodes {
+    public static final int BRANCHES_PER_BANK = 10;
+    private static final String[] COUNTRIES = {"PL", "DE", "FR", "GB", "US", "ES", "IT", "NL", "CH", "SE"};
+
+    public static List<SwiftCodeEntity> generate(int size) {
+        List<SwiftCodeEntity> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(entity(i));
+        }
+        return entities;
+    }
+
+    public static String swiftCode(int i) {
+        int bank = i / BRANCHES_PER_BANK;
+        int branch = i % BRANCHES_PER_BANK;
+        return bankCode(bank) + COUNTRIES[bank % COUNTRIES.length] + "PW"
+                + (branch == 0 ? "XXX" : String.format("%03d", branch));
+    }
+
+    public static SwiftCodeEntity entity(int i) {
+        String swiftCode = swiftCode(i);
+        return new SwiftCodeEntity()
+                .setSwiftCode(swiftCode)
+                .setName("BANK " + swiftCode.substring(0, 4))
+                .setAddress("STREET " + i)
+                .setCountryISO2(swiftCode.substring(4, 6))
+                .setCountryName("COUNTRY " + swiftCode.substring(4, 6))
+                .setHeadquarter(swiftCode.endsWith("XXX"));
+    }
+
+    private static String bankCode(int bank) {
+        char[] code = new char[4];
+        for (int i = 3; i >= 0; i--) {
+            code[i] = (char) ('A' + bank % 26);
+            bank /= 26;
+        }
+        return new String(code);
+    }
+}
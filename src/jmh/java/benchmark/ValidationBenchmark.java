@@ -0,0 +1,96 @@
+package benchmark;
+
+import org.home.exercise.swift.component.SwiftCodeValidator;
+import org.home.exercise.swift.exception.ValidationException;
+import org.home.exercise.swift.utils.BicNormalizer;
+import org.home.exercise.swift.utils.BranchClassifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private static final int CODES = 1024;
+    private final SwiftCodeValidator validator = new SwiftCodeValidator();
+    private String[] swiftCodes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        swiftCodes = new String[CODES];
+        for (int i = 0; i < CODES; i++) {
+            String swiftCode = SyntheticSwiftCodes.swiftCode(i);
+            swiftCodes[i] = i % 3 == 0 ? BicNormalizer.toBic8(swiftCode) : swiftCode;
+        }
+    }
+
+    private String nextCode() {
+        next = (next + 1) & (CODES - 1);
+        return swiftCodes[next];
+    }
+
+    @Benchmark
+    public void checkRequiredFieldExist() {
+        String swiftCode = nextCode();
+        validator.checkRequiredFieldExist(swiftCode, "PL", "BANK", "POLAND");
+    }
+
+    @Benchmark
+    public void checkLengthOfSwiftCode() {
+        validator.checkLengthOfSwiftCode(nextCode());
+    }
+
+    @Benchmark
+    public void checkHeadquarterStatus() {
+        String swiftCode = nextCode();
+        validator.checkHeadquarterStatus(swiftCode, BranchClassifier.isHeadquarter(swiftCode));
+    }
+
+    @Benchmark
+    public void checkMatchOfCountryIsoAndSwiftCode() {
+        String swiftCode = nextCode();
+        validator.checkMatchOfCountryIsoAndSwiftCode(swiftCode, swiftCode.substring(4, 6));
+    }
+
+    @Benchmark
+    public int validateRow() {
+        String swiftCode = nextCode();
+        return validator.validateRow(swiftCode, "pl", "BANK", "POLAND");
+    }
+
+    @Benchmark
+    public int validateRowRejected() {
+        return validator.validateRow(nextCode(), "XX", null, "POLAND");
+    }
+
+    @Benchmark
+    public boolean exceptionPathRejected() {
+        String swiftCode = nextCode();
+        try {
+            validator.checkRequiredFieldExist(swiftCode, "XX", null, "POLAND");
+            validator.checkLengthOfSwiftCode(swiftCode);
+            validator.checkMatchOfCountryIsoAndSwiftCode(swiftCode, "XX");
+            return true;
+        } catch (ValidationException exception) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean isHeadquarter() {
+        return BranchClassifier.isHeadquarter(nextCode());
+    }
+
+    @Benchmark
+    public void normalize(Blackhole blackhole) {
+        String swiftCode = nextCode();
+        blackhole.consume(BicNormalizer.toBic11(swiftCode));
+        blackhole.consume(BicNormalizer.toBic8(swiftCode));
+    }
+}
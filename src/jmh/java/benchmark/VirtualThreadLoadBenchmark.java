@@ -0,0 +1,75 @@
+package benchmark;
+
+import org.home.exercise.swift.Application;
+import org.home.exercise.swift.component.SwiftCodeBulkWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+    private static final int SIZE = 10000;
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+    @Param({"5"})
+    private int dbLatencyMs;
+    @Param({"50"})
+    private int tomcatThreads;
+    @Param({"100"})
+    private int dbConcurrency;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI[] uris;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class, SimulatedDbLatency.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + tomcatThreads,
+                        "--spring.datasource.hikari.maximum-pool-size=" + dbConcurrency,
+                        "--swift.datasource.limit.enabled=true",
+                        "--swift.datasource.limit.max-concurrency=" + dbConcurrency,
+                        "--swift.benchmark.db-latency=" + dbLatencyMs + "ms");
+        context.getBean(SwiftCodeBulkWriter.class).write(SyntheticSwiftCodes.generate(SIZE));
+        String port = context.getEnvironment().getProperty("local.server.port");
+        uris = new URI[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            uris[i] = URI.create("http://localhost:" + port + "/v1/swift-codes/" + SyntheticSwiftCodes.swiftCode(i));
+        }
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int lookup() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uris[ThreadLocalRandom.current().nextInt(SIZE)]).build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,110 @@
+package org.home.exercise.swift.component;
+
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.repository.SwiftCodeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.home.exercise.swift.utils.TransactionHooks.afterCommit;
+
+public abstract class AbstractDictionary<E> {
+    private final JpaRepository<E, String> repository;
+    protected final SwiftCodeRepository swiftCodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String name;
+    private volatile Map<String, E> entries = new ConcurrentHashMap<>();
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    protected AbstractDictionary(JpaRepository<E, String> repository, SwiftCodeRepository swiftCodeRepository,
+                                 TransactionTemplate transactionTemplate, String name) {
+        this.repository = repository;
+        this.swiftCodeRepository = swiftCodeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.name = name;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (this.repository.count() == 0 && this.swiftCodeRepository.count() > 0) {
+            rebuild();
+        } else {
+            reload();
+        }
+    }
+
+    public Optional<E> find(String key) {
+        return Optional.ofNullable(this.entries.get(key));
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public void reload() {
+        Map<String, E> loaded = new ConcurrentHashMap<>();
+        this.repository.findAll().forEach(entry -> loaded.put(keyOf(entry), entry));
+        this.entries = loaded;
+        logger.info("{} dictionary loaded with {} entries", name, loaded.size());
+    }
+
+    public void rebuild() {
+        logger.info("Rebuilding {} dictionary from swift codes", name);
+        this.transactionTemplate.executeWithoutResult(status -> rebuildTable());
+        reload();
+    }
+
+    public void added(SwiftCodeEntity entity) {
+        addedAll(List.of(entity));
+    }
+
+    public void addedAll(List<SwiftCodeEntity> entities) {
+        Map<String, E> deltas = new HashMap<>();
+        for (SwiftCodeEntity entity : entities) {
+            E delta = deltaOf(entity);
+            deltas.merge(keyOf(delta), delta, this::add);
+        }
+        deltas.values().forEach(this::store);
+        afterCommit(() -> deltas.values().forEach(this::apply));
+    }
+
+    public void mirrorAdded(SwiftCodeEntity entity) {
+        E delta = deltaOf(entity);
+        afterCommit(() -> apply(delta));
+    }
+
+    protected void applyRemoved(E delta) {
+        afterCommit(() -> this.entries.computeIfPresent(keyOf(delta), (key, current) -> subtract(current, delta)));
+    }
+
+    private void apply(E delta) {
+        this.entries.merge(keyOf(delta), delta, this::add);
+    }
+
+    protected Map<String, E> stored() {
+        Map<String, E> stored = new HashMap<>();
+        this.repository.findAll().forEach(entry -> stored.put(keyOf(entry), entry));
+        return stored;
+    }
+
+    protected abstract String keyOf(E entry);
+
+    protected abstract E deltaOf(SwiftCodeEntity entity);
+
+    protected abstract E add(E current, E delta);
+
+    protected abstract E subtract(E current, E delta);
+
+    protected abstract void store(E delta);
+
+    protected abstract void rebuildTable();
+}
@@ -0,0 +1,89 @@
+package org.home.exercise.swift.component;
+
+import org.home.exercise.swift.dto.BankTallyDto;
+import org.home.exercise.swift.entity.BankEntity;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.repository.BankRepository;
+import org.home.exercise.swift.repository.SwiftCodeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class BankDictionary extends AbstractDictionary<BankEntity> {
+    private final BankRepository bankRepository;
+
+    @Autowired
+    public BankDictionary(BankRepository bankRepository, SwiftCodeRepository swiftCodeRepository,
+                          TransactionTemplate transactionTemplate) {
+        super(bankRepository, swiftCodeRepository, transactionTemplate, "Bank");
+        this.bankRepository = bankRepository;
+    }
+
+    public void removed(String bic8, long codes) {
+        if (codes == 0) {
+            return;
+        }
+        this.bankRepository.addCodes(bic8, -codes);
+        this.bankRepository.deleteIfEmpty(bic8);
+        applyRemoved(new BankEntity(bic8, null, codes));
+    }
+
+    @Override
+    protected String keyOf(BankEntity bank) {
+        return bank.getBic8();
+    }
+
+    @Override
+    protected BankEntity deltaOf(SwiftCodeEntity entity) {
+        return new BankEntity(entity.getBic8(), entity.getName(), 1);
+    }
+
+    @Override
+    protected BankEntity add(BankEntity current, BankEntity delta) {
+        return new BankEntity(current.getBic8(), current.getName(), current.getCodeCount() + delta.getCodeCount());
+    }
+
+    @Override
+    protected BankEntity subtract(BankEntity current, BankEntity delta) {
+        long codes = current.getCodeCount() - delta.getCodeCount();
+        return codes <= 0 ? null : new BankEntity(current.getBic8(), current.getName(), codes);
+    }
+
+    @Override
+    protected void store(BankEntity delta) {
+        if (this.bankRepository.addCodes(delta.getBic8(), delta.getCodeCount()) == 0) {
+            this.bankRepository.insertIfAbsent(delta.getBic8(), delta.getName());
+            this.bankRepository.addCodes(delta.getBic8(), delta.getCodeCount());
+        }
+    }
+
+    @Override
+    protected void rebuildTable() {
+        Map<String, BankTallyDto> canonical = new HashMap<>();
+        Map<String, Long> totals = new HashMap<>();
+        for (BankTallyDto tally : this.swiftCodeRepository.countBanks()) {
+            canonical.merge(tally.bic8(), tally,
+                    (current, candidate) -> candidate.codeCount() > current.codeCount() ? candidate : current);
+            totals.merge(tally.bic8(), tally.codeCount(), Long::sum);
+        }
+        Map<String, BankEntity> stale = stored();
+        List<BankEntity> created = new ArrayList<>();
+        for (BankTallyDto tally : canonical.values()) {
+            long total = totals.get(tally.bic8());
+            BankEntity bank = stale.remove(tally.bic8());
+            if (bank == null) {
+                created.add(new BankEntity(tally.bic8(), tally.name(), total));
+            } else {
+                bank.setName(tally.name()).setCodeCount(total);
+            }
+        }
+        this.bankRepository.saveAll(created);
+        this.bankRepository.deleteAllInBatch(stale.values());
+    }
+}
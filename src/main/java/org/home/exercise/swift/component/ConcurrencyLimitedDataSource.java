@@ -0,0 +1,81 @@
+package org.home.exercise.swift.component;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Duration acquireTimeout;
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxConcurrency, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Database concurrency limit of " + maxConcurrency
+                        + " reached, no permit within " + acquireTimeout.toMillis() + "ms");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for database permit", exception);
+        }
+    }
+
+    private Connection releaseOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            permits.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException exception) {
+                        throw exception.getTargetException();
+                    }
+                });
+    }
+}
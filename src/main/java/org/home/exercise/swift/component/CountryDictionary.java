@@ -0,0 +1,94 @@
+package org.home.exercise.swift.component;
+
+import org.home.exercise.swift.dto.CountryTallyDto;
+import org.home.exercise.swift.entity.CountryEntity;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.repository.CountryRepository;
+import org.home.exercise.swift.repository.SwiftCodeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class CountryDictionary extends AbstractDictionary<CountryEntity> {
+    private final CountryRepository countryRepository;
+
+    @Autowired
+    public CountryDictionary(CountryRepository countryRepository, SwiftCodeRepository swiftCodeRepository,
+                             TransactionTemplate transactionTemplate) {
+        super(countryRepository, swiftCodeRepository, transactionTemplate, "Country");
+        this.countryRepository = countryRepository;
+    }
+
+    public void removed(List<CountryTallyDto> tallies) {
+        for (CountryTallyDto tally : tallies) {
+            this.countryRepository.addCodes(tally.countryISO2(), -tally.codeCount(), -tally.headquarterCount());
+            this.countryRepository.deleteIfEmpty(tally.countryISO2());
+            applyRemoved(new CountryEntity(tally.countryISO2(), tally.countryName(), tally.codeCount(),
+                    tally.headquarterCount()));
+        }
+    }
+
+    @Override
+    protected String keyOf(CountryEntity country) {
+        return country.getIso2();
+    }
+
+    @Override
+    protected CountryEntity deltaOf(SwiftCodeEntity entity) {
+        return new CountryEntity(entity.getCountryISO2(), entity.getCountryName(), 1, entity.isHeadquarter() ? 1 : 0);
+    }
+
+    @Override
+    protected CountryEntity add(CountryEntity current, CountryEntity delta) {
+        return new CountryEntity(current.getIso2(), current.getCountryName(),
+                current.getCodeCount() + delta.getCodeCount(),
+                current.getHeadquarterCount() + delta.getHeadquarterCount());
+    }
+
+    @Override
+    protected CountryEntity subtract(CountryEntity current, CountryEntity delta) {
+        long codes = current.getCodeCount() - delta.getCodeCount();
+        return codes <= 0 ? null : new CountryEntity(current.getIso2(), current.getCountryName(), codes,
+                current.getHeadquarterCount() - delta.getHeadquarterCount());
+    }
+
+    @Override
+    protected void store(CountryEntity delta) {
+        if (this.countryRepository.addCodes(delta.getIso2(), delta.getCodeCount(), delta.getHeadquarterCount()) == 0) {
+            this.countryRepository.insertIfAbsent(delta.getIso2(), delta.getCountryName());
+            this.countryRepository.addCodes(delta.getIso2(), delta.getCodeCount(), delta.getHeadquarterCount());
+        }
+    }
+
+    @Override
+    protected void rebuildTable() {
+        Map<String, CountryTallyDto> canonical = new HashMap<>();
+        Map<String, long[]> totals = new HashMap<>();
+        for (CountryTallyDto tally : this.swiftCodeRepository.countCountries()) {
+            canonical.merge(tally.countryISO2(), tally,
+                    (current, candidate) -> candidate.codeCount() > current.codeCount() ? candidate : current);
+            long[] total = totals.computeIfAbsent(tally.countryISO2(), iso2 -> new long[2]);
+            total[0] += tally.codeCount();
+            total[1] += tally.headquarterCount();
+        }
+        Map<String, CountryEntity> stale = stored();
+        List<CountryEntity> created = new ArrayList<>();
+        for (CountryTallyDto tally : canonical.values()) {
+            long[] total = totals.get(tally.countryISO2());
+            CountryEntity country = stale.remove(tally.countryISO2());
+            if (country == null) {
+                created.add(new CountryEntity(tally.countryISO2(), tally.countryName(), total[0], total[1]));
+            } else {
+                country.setCountryName(tally.countryName()).setCodeCount(total[0]).setHeadquarterCount(total[1]);
+            }
+        }
+        this.countryRepository.saveAll(created);
+        this.countryRepository.deleteAllInBatch(stale.values());
+    }
+}
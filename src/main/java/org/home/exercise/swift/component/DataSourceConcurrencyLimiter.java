@@ -0,0 +1,42 @@
+package org.home.exercise.swift.component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Component
+public class DataSourceConcurrencyLimiter implements BeanPostProcessor {
+    private final boolean enabled;
+    private final int maxConcurrency;
+    private final Duration acquireTimeout;
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConcurrencyLimiter.class);
+
+    public DataSourceConcurrencyLimiter(@Value("${swift.datasource.limit.enabled:false}") boolean enabled,
+                                        @Value("${swift.datasource.limit.max-concurrency:10}") int maxConcurrency,
+                                        @Value("${swift.datasource.limit.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.enabled = enabled;
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof HikariDataSource hikariDataSource) {
+            logger.info("Limiting pool of data source {} to {} connections", beanName, maxConcurrency);
+            hikariDataSource.setMaximumPoolSize(maxConcurrency);
+            hikariDataSource.setConnectionTimeout(acquireTimeout.toMillis());
+            return hikariDataSource;
+        }
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+            logger.info("Limiting concurrent use of data source {} to {} connections", beanName, maxConcurrency);
+            return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeout);
+        }
+        return bean;
+    }
+}
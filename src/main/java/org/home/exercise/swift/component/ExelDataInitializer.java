@@ -1,27 +1,72 @@
 package org.home.exercise.swift.component;
 
-import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.home.exercise.swift.service.SwiftExelLoaderService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 @Profile("!test")
 @Component
 public class ExelDataInitializer {
     private final SwiftExelLoaderService swiftExelLoaderService;
+    private final ImportProgress importProgress;
+    private final long initialDelay;
+    private final long maxDelay;
+    private final ScheduledExecutorService executor;
     private static final Logger logger = LoggerFactory.getLogger(ExelDataInitializer.class);
 
     @Autowired
-    public ExelDataInitializer(SwiftExelLoaderService swiftExelLoaderService){
+    public ExelDataInitializer(SwiftExelLoaderService swiftExelLoaderService, ImportProgress importProgress,
+                               @Value("${swift.loader.retry.initial-delay:5s}") Duration initialDelay,
+                               @Value("${swift.loader.retry.max-delay:5m}") Duration maxDelay){
         this.swiftExelLoaderService = swiftExelLoaderService;
+        this.importProgress = importProgress;
+        this.initialDelay = initialDelay.toMillis();
+        this.maxDelay = maxDelay.toMillis();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("exel-import-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
     }
 
-    @PostConstruct
+    @EventListener(ApplicationStartedEvent.class)
     public void init(){
-        logger.info("Initializing database from Excel if empty");
-        this.swiftExelLoaderService.processExel();
+        logger.info("Initializing database from Excel if empty in the background");
+        this.executor.execute(() -> this.load(this.initialDelay));
+    }
+
+    private void load(long delay) {
+        try {
+            this.swiftExelLoaderService.processExel();
+        } catch (Exception e) {
+            logger.error("Startup Excel import failed", e);
+            this.importProgress.finished(false);
+        }
+        if (this.importProgress.isReady()) {
+            return;
+        }
+        logger.warn("Startup Excel import did not complete, retrying in {} ms", delay);
+        try {
+            this.executor.schedule(() -> this.load(Math.min(delay * 2, this.maxDelay)), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.info("Startup Excel import retry cancelled, shutting down");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
     }
 }
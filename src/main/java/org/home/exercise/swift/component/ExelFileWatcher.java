@@ -0,0 +1,120 @@
+package org.home.exercise.swift.component;
+
+import org.home.exercise.swift.service.SwiftExelLoaderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+@Component
+public class ExelFileWatcher {
+    private final SwiftExelLoaderService swiftExelLoaderService;
+    private final ResourceLoader resourceLoader;
+    private final String filePath;
+    private final boolean enabled;
+    private final long debounce;
+    private ExecutorService executor;
+    private WatchService watchService;
+    private static final Logger logger = LoggerFactory.getLogger(ExelFileWatcher.class);
+
+    @Autowired
+    public ExelFileWatcher(SwiftExelLoaderService swiftExelLoaderService, ResourceLoader resourceLoader,
+                           @Value("${swift.loader.file-path}") String filePath,
+                           @Value("${swift.loader.watch.enabled:false}") boolean enabled,
+                           @Value("${swift.loader.watch.debounce:2s}") Duration debounce) {
+        this.swiftExelLoaderService = swiftExelLoaderService;
+        this.resourceLoader = resourceLoader;
+        this.filePath = filePath;
+        this.enabled = enabled;
+        this.debounce = debounce.toMillis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || this.executor != null) {
+            return;
+        }
+        Path file;
+        try {
+            file = this.resourceLoader.getResource(filePath).getFile().toPath().toAbsolutePath();
+            this.watchService = file.getFileSystem().newWatchService();
+            file.getParent().register(this.watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.warn("Cannot watch Excel file {}: {}", filePath, e.getMessage());
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("exel-watcher-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadExecutor(threadFactory);
+        this.executor.execute(() -> this.watch(file));
+        logger.info("Watching Excel file {} for changes", file);
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void stop() {
+        if (this.executor == null) {
+            return;
+        }
+        this.executor.shutdownNow();
+        try {
+            this.watchService.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close Excel file watcher: {}", e.getMessage());
+        }
+        this.executor = null;
+    }
+
+    private void watch(Path file) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!this.changed(this.watchService.take(), file)) {
+                    continue;
+                }
+                WatchKey key;
+                while ((key = this.watchService.poll(debounce, TimeUnit.MILLISECONDS)) != null) {
+                    this.changed(key, file);
+                }
+                this.reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            logger.info("Excel file watcher closed");
+        }
+    }
+
+    private boolean changed(WatchKey key, Path file) {
+        boolean changed = key.pollEvents().stream()
+                .anyMatch(event -> file.getFileName().equals(event.context()));
+        key.reset();
+        return changed;
+    }
+
+    private void reload() {
+        logger.info("Excel file {} changed, reloading", filePath);
+        try {
+            this.swiftExelLoaderService.importDifferential();
+        } catch (Exception e) {
+            logger.error("Failed to reload Excel file", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.home.exercise.swift.component;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.home.exercise.swift.dto.ExelRowDto;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+@Component
+public class ExelSheetReader {
+    private static final int COUNTRY_ISO2_COLUMN = 0;
+    private static final int SWIFT_CODE_COLUMN = 1;
+    private static final int BANK_NAME_COLUMN = 3;
+    private static final int ADDRESS_COLUMN = 4;
+    private static final int COUNTRY_NAME_COLUMN = 6;
+    private static final int COLUMN_COUNT = 7;
+
+    public void readWorkbook(Resource resource, Consumer<ExelRowDto> consumer) throws IOException {
+        readWorkbook(resource, consumer, totalRows -> {});
+    }
+
+    public void readWorkbook(Resource resource, Consumer<ExelRowDto> consumer, LongConsumer totalRows)
+            throws IOException {
+        try (InputStream inputStream = resource.getInputStream();
+             Workbook workbook = new XSSFWorkbook(inputStream)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            totalRows.accept(sheet.getLastRowNum() + 1);
+            for (Row row : sheet) {
+                consumer.accept(new ExelRowDto(row.getRowNum(),
+                        getValue(row.getCell(COUNTRY_ISO2_COLUMN)), getValue(row.getCell(SWIFT_CODE_COLUMN)),
+                        getValue(row.getCell(BANK_NAME_COLUMN)), getValue(row.getCell(ADDRESS_COLUMN)),
+                        getValue(row.getCell(COUNTRY_NAME_COLUMN))));
+            }
+        }
+    }
+
+    public void readStreaming(Resource resource, Consumer<ExelRowDto> consumer)
+            throws IOException, OpenXML4JException, SAXException {
+        readStreaming(resource, consumer, totalRows -> {});
+    }
+
+    public void readStreaming(Resource resource, Consumer<ExelRowDto> consumer, LongConsumer totalRows)
+            throws IOException, OpenXML4JException, SAXException {
+        try (OPCPackage exelPackage = openPackage(resource)) {
+            XSSFReader reader = new XSSFReader(exelPackage);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = new DimensionFilter(XMLHelper.newXMLReader(), totalRows);
+                parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null,
+                        new ReadOnlySharedStringsTable(exelPackage), new RowHandler(consumer),
+                        new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            } catch (ParserConfigurationException e) {
+                throw new SAXException(e);
+            }
+        }
+    }
+
+    private OPCPackage openPackage(Resource resource) throws IOException, OpenXML4JException {
+        if (resource.isFile()) {
+            return OPCPackage.open(resource.getFile(), PackageAccess.READ);
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            return OPCPackage.open(inputStream);
+        }
+    }
+
+    private String getValue(Cell cell) {
+        if (cell == null || cell.getCellType() == CellType.BLANK) {
+            return null;
+        }
+        cell.setCellType(CellType.STRING);
+        return normalize(cell.getStringCellValue());
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static class DimensionFilter extends XMLFilterImpl {
+        private final LongConsumer totalRows;
+
+        private DimensionFilter(XMLReader parent, LongConsumer totalRows) {
+            super(parent);
+            this.totalRows = totalRows;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+            String range = attributes.getValue("ref");
+            if ("dimension".equals(localName) && range != null) {
+                totalRows.accept(new CellReference(range.substring(range.indexOf(':') + 1)).getRow() + 1);
+            }
+            super.startElement(uri, localName, qName, attributes);
+        }
+    }
+
+    private static class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final Consumer<ExelRowDto> consumer;
+        private final String[] values = new String[COLUMN_COUNT];
+        private int currentColumn;
+
+        private RowHandler(Consumer<ExelRowDto> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(values, null);
+            currentColumn = -1;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            consumer.accept(new ExelRowDto(rowNum, values[COUNTRY_ISO2_COLUMN], values[SWIFT_CODE_COLUMN],
+                    values[BANK_NAME_COLUMN], values[ADDRESS_COLUMN], values[COUNTRY_NAME_COLUMN]));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            currentColumn = cellReference == null ? currentColumn + 1 : new CellReference(cellReference).getCol();
+            if (currentColumn < COLUMN_COUNT) {
+                values[currentColumn] = normalize(formattedValue);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.home.exercise.swift.component;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportHealthIndicator implements HealthIndicator {
+    private final ImportProgress importProgress;
+
+    @Autowired
+    public ImportHealthIndicator(ImportProgress importProgress) {
+        this.importProgress = importProgress;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = this.importProgress.isReady() ? Health.up() : Health.down();
+        return builder.withDetail("status", this.importProgress.status())
+                .withDetail("rowsRead", this.importProgress.rowsRead())
+                .withDetail("totalRows", this.importProgress.totalRows())
+                .withDetail("percentDone", Math.round(this.importProgress.percentDone() * 10) / 10.0)
+                .withDetail("rowsPerSecond", Math.round(this.importProgress.rowsPerSecond()))
+                .build();
+    }
+}
@@ -0,0 +1,197 @@
+package org.home.exercise.swift.component;
+
+import org.home.exercise.swift.dto.ExelRowDto;
+import org.home.exercise.swift.dto.ImportSummaryDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+@Component
+public class ImportPipeline {
+    private static final List<?> END = new ArrayList<>();
+    private static final long OFFER_TIMEOUT_MS = 100;
+    private final int validatorThreads;
+    private final int writerThreads;
+    private final int queueCapacity;
+    private static final Logger logger = LoggerFactory.getLogger(ImportPipeline.class);
+
+    @Autowired
+    public ImportPipeline(@Value("${swift.loader.pipeline.validator-threads:4}") int validatorThreads,
+                          @Value("${swift.loader.pipeline.writer-threads:2}") int writerThreads,
+                          @Value("${swift.loader.pipeline.queue-capacity:8}") int queueCapacity) {
+        this.validatorThreads = validatorThreads;
+        this.writerThreads = writerThreads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public <T> ImportSummaryDto run(RowSource source, Function<ExelRowDto, T> mapper, ToIntFunction<List<T>> writer,
+                                    int batchSize) throws Exception {
+        logger.info("Starting import pipeline with {} validator(s), {} writer(s) and batch size {}",
+                validatorThreads, writerThreads, batchSize);
+        BlockingQueue<List<ExelRowDto>> rows = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<List<T>> mapped = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicLong imported = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch validatorsDone = new CountDownLatch(validatorThreads);
+        ExecutorService validators = Executors.newFixedThreadPool(validatorThreads,
+                new CustomizableThreadFactory("import-validator-"));
+        ExecutorService writers = Executors.newFixedThreadPool(writerThreads,
+                new CustomizableThreadFactory("import-writer-"));
+        try {
+            for (int i = 0; i < validatorThreads; i++) {
+                validators.execute(() -> {
+                    try {
+                        List<ExelRowDto> chunk;
+                        while ((chunk = rows.take()) != END) {
+                            List<T> entities = new ArrayList<>(chunk.size());
+                            for (ExelRowDto row : chunk) {
+                                T entity = mapper.apply(row);
+                                if (entity == null) {
+                                    skipped.incrementAndGet();
+                                } else {
+                                    entities.add(entity);
+                                }
+                            }
+                            if (!entities.isEmpty()) {
+                                put(mapped, entities, failure);
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        validatorsDone.countDown();
+                    }
+                });
+            }
+            List<Future<?>> writerTasks = new ArrayList<>();
+            for (int i = 0; i < writerThreads; i++) {
+                writerTasks.add(writers.submit(() -> {
+                    try {
+                        List<T> batch = new ArrayList<>(batchSize);
+                        List<T> chunk;
+                        while ((chunk = mapped.take()) != END) {
+                            for (T entity : chunk) {
+                                batch.add(entity);
+                                if (batch.size() == batchSize) {
+                                    imported.addAndGet(writer.applyAsInt(batch));
+                                    batch = new ArrayList<>(batchSize);
+                                }
+                            }
+                        }
+                        if (!batch.isEmpty()) {
+                            imported.addAndGet(writer.applyAsInt(batch));
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }));
+            }
+
+            RowChunker chunker = new RowChunker(rows, failure, batchSize);
+            source.read(chunker);
+            chunker.flush();
+            for (int i = 0; i < validatorThreads; i++) {
+                put(rows, end(), failure);
+            }
+            validatorsDone.await();
+            for (int i = 0; i < writerThreads; i++) {
+                put(mapped, end(), failure);
+            }
+            for (Future<?> writerTask : writerTasks) {
+                writerTask.get();
+            }
+        } catch (PipelineAbortedException e) {
+            logger.warn("Import pipeline aborted after a stage failure");
+        } finally {
+            validators.shutdownNow();
+            writers.shutdownNow();
+            awaitTermination(validators);
+            awaitTermination(writers);
+        }
+        if (failure.get() != null) {
+            throw new ExecutionException("Import pipeline failed", failure.get());
+        }
+        return new ImportSummaryDto(imported.get(), skipped.get());
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                logger.warn("Waiting for import pipeline stage to finish its current batch");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> end() {
+        return (List<T>) END;
+    }
+
+    private static <T> void put(BlockingQueue<List<T>> queue, List<T> item, AtomicReference<Throwable> failure) {
+        try {
+            while (!queue.offer(item, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    throw new PipelineAbortedException(failure.get());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import pipeline interrupted", e);
+        }
+    }
+
+    private static class PipelineAbortedException extends RuntimeException {
+        private PipelineAbortedException(Throwable cause) {
+            super("Import pipeline aborted", cause);
+        }
+    }
+
+    private static class RowChunker implements Consumer<ExelRowDto> {
+        private final BlockingQueue<List<ExelRowDto>> rows;
+        private final AtomicReference<Throwable> failure;
+        private final int chunkSize;
+        private List<ExelRowDto> chunk;
+
+        private RowChunker(BlockingQueue<List<ExelRowDto>> rows, AtomicReference<Throwable> failure, int chunkSize) {
+            this.rows = rows;
+            this.failure = failure;
+            this.chunkSize = chunkSize;
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        @Override
+        public void accept(ExelRowDto row) {
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!chunk.isEmpty()) {
+                put(rows, chunk, failure);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowSource {
+        void read(Consumer<ExelRowDto> consumer) throws Exception;
+    }
+}
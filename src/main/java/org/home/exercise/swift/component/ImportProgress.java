@@ -0,0 +1,89 @@
+package org.home.exercise.swift.component;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ImportProgress {
+    public static final String PENDING = "PENDING";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String SKIPPED = "SKIPPED";
+    public static final String FAILED = "FAILED";
+    private final AtomicLong rowsRead = new AtomicLong();
+    private volatile String status = PENDING;
+    private volatile boolean ready;
+    private volatile long totalRows = -1;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    public void started() {
+        this.rowsRead.set(0);
+        this.totalRows = -1;
+        this.finishedAt = 0;
+        this.startedAt = System.nanoTime();
+        this.status = RUNNING;
+    }
+
+    public void totalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public void rowRead() {
+        this.rowsRead.incrementAndGet();
+    }
+
+    public void finished(boolean completed) {
+        this.finishedAt = System.nanoTime();
+        this.status = completed ? COMPLETED : FAILED;
+        if (completed) {
+            this.ready = true;
+        }
+    }
+
+    public void dataAvailable() {
+        this.ready = true;
+    }
+
+    public void skipped() {
+        this.status = SKIPPED;
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    public String status() {
+        return this.status;
+    }
+
+    public long rowsRead() {
+        return this.rowsRead.get();
+    }
+
+    public long totalRows() {
+        return this.totalRows;
+    }
+
+    public double percentDone() {
+        String status = this.status;
+        if (COMPLETED.equals(status) || SKIPPED.equals(status)) {
+            return 100;
+        }
+        if (this.totalRows <= 0) {
+            return 0;
+        }
+        return Math.min(100, this.rowsRead.get() * 100.0 / this.totalRows);
+    }
+
+    public double rowsPerSecond() {
+        long startedAt = this.startedAt;
+        if (startedAt == 0) {
+            return 0;
+        }
+        long end = this.finishedAt != 0 ? this.finishedAt : System.nanoTime();
+        return end > startedAt ? this.rowsRead.get() * 1e9 / (end - startedAt) : 0;
+    }
+}
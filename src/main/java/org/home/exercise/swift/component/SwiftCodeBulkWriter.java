@@ -0,0 +1,162 @@
+package org.home.exercise.swift.component;
+
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Component
+public class SwiftCodeBulkWriter {
+    private static final String COLUMNS = "swift_code, bic8, countryiso2, name, address, country_name, is_headquarter";
+    private static final String STAGING_TABLE_SQL = "CREATE TEMP TABLE IF NOT EXISTS swift_code_import (LIKE swift_code)";
+    private static final String CLEAR_STAGING_SQL = "TRUNCATE swift_code_import";
+    private static final String COPY_SQL = "COPY swift_code_import (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+    private static final String MERGE_SQL = "INSERT INTO swift_code (" + COLUMNS + ") SELECT " + COLUMNS
+            + " FROM swift_code_import ON CONFLICT DO NOTHING RETURNING swift_code";
+    private static final String INSERT_SQL = "INSERT INTO swift_code (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_IF_ABSENT_SQL = INSERT_SQL + " ON CONFLICT DO NOTHING";
+    private static final String UPDATE_SQL = "UPDATE swift_code SET countryiso2 = ?, name = ?, address = ?,"
+            + " country_name = ?, is_headquarter = ? WHERE swift_code = ?";
+    private static final String DELETE_SQL = "DELETE FROM swift_code WHERE swift_code = ?";
+    private static final String SELECT_ALL_SQL = "SELECT " + COLUMNS + " FROM swift_code";
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean normalizedSchema;
+
+    @Autowired
+    public SwiftCodeBulkWriter(JdbcTemplate jdbcTemplate,
+                               @Value("${swift.schema.normalized:false}") boolean normalizedSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.normalizedSchema = normalizedSchema;
+    }
+
+    public List<SwiftCodeEntity> write(List<SwiftCodeEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        return this.jdbcTemplate.execute((ConnectionCallback<List<SwiftCodeEntity>>) connection -> {
+            if (!normalizedSchema && connection.isWrapperFor(PGConnection.class)) {
+                return copy(connection, entities);
+            }
+            return batchInsert(connection, entities);
+        });
+    }
+
+    public void update(List<SwiftCodeEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(UPDATE_SQL, entities, entities.size(), (statement, entity) -> {
+            statement.setString(1, entity.getCountryISO2());
+            statement.setString(2, entity.getName());
+            statement.setString(3, entity.getAddress());
+            statement.setString(4, entity.getCountryName());
+            statement.setBoolean(5, entity.isHeadquarter());
+            statement.setString(6, entity.getSwiftCode());
+        });
+    }
+
+    public void delete(List<String> swiftCodes) {
+        if (swiftCodes.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(DELETE_SQL, swiftCodes, swiftCodes.size(),
+                (statement, swiftCode) -> statement.setString(1, swiftCode));
+    }
+
+    public void readAll(Consumer<SwiftCodeEntity> consumer) {
+        this.jdbcTemplate.query(SELECT_ALL_SQL, (RowCallbackHandler) resultSet -> consumer.accept(new SwiftCodeEntity()
+                .setSwiftCode(resultSet.getString("swift_code"))
+                .setCountryISO2(resultSet.getString("countryiso2"))
+                .setName(resultSet.getString("name"))
+                .setAddress(resultSet.getString("address"))
+                .setCountryName(resultSet.getString("country_name"))
+                .setHeadquarter(resultSet.getBoolean("is_headquarter"))));
+    }
+
+    public static String toCsv(List<SwiftCodeEntity> entities) {
+        StringBuilder csv = new StringBuilder(entities.size() * 128);
+        for (SwiftCodeEntity entity : entities) {
+            appendCsvValue(csv, entity.getSwiftCode()).append(',');
+            appendCsvValue(csv, entity.getBic8()).append(',');
+            appendCsvValue(csv, entity.getCountryISO2()).append(',');
+            appendCsvValue(csv, entity.getName()).append(',');
+            appendCsvValue(csv, entity.getAddress()).append(',');
+            appendCsvValue(csv, entity.getCountryName()).append(',');
+            csv.append(entity.isHeadquarter()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private List<SwiftCodeEntity> copy(Connection connection, List<SwiftCodeEntity> entities) throws SQLException {
+        Set<String> inserted = new HashSet<>();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(STAGING_TABLE_SQL);
+            statement.execute(CLEAR_STAGING_SQL);
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(toCsv(entities)));
+            try (ResultSet resultSet = statement.executeQuery(MERGE_SQL)) {
+                while (resultSet.next()) {
+                    inserted.add(resultSet.getString(1));
+                }
+            }
+        } catch (IOException e) {
+            throw new SQLException("Failed to stream rows to COPY", e);
+        }
+        return entities.stream().filter(entity -> inserted.remove(entity.getSwiftCode())).toList();
+    }
+
+    private List<SwiftCodeEntity> batchInsert(Connection connection, List<SwiftCodeEntity> entities) throws SQLException {
+        String sql = normalizedSchema ? INSERT_SQL : INSERT_IF_ABSENT_SQL;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (SwiftCodeEntity entity : entities) {
+                statement.setString(1, entity.getSwiftCode());
+                statement.setString(2, entity.getBic8());
+                statement.setString(3, entity.getCountryISO2());
+                statement.setString(4, entity.getName());
+                statement.setString(5, entity.getAddress());
+                statement.setString(6, entity.getCountryName());
+                statement.setBoolean(7, entity.isHeadquarter());
+                statement.addBatch();
+            }
+            int[] counts = statement.executeBatch();
+            List<SwiftCodeEntity> inserted = new ArrayList<>(entities.size());
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    inserted.add(entities.get(i));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    private static StringBuilder appendCsvValue(StringBuilder csv, String value) {
+        if (value == null) {
+            return csv;
+        }
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+}
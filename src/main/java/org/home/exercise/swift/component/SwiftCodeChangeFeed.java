@@ -0,0 +1,221 @@
+package org.home.exercise.swift.component;
+
+import org.home.exercise.swift.dto.SwiftCodeChangeDto;
+import org.home.exercise.swift.dto.SwiftCodeChangePageDto;
+import org.home.exercise.swift.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Profile("!reactive")
+public class SwiftCodeChangeFeed {
+    private static final int PAGE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_PENDING = 10 * PAGE_SIZE;
+    private final SwiftCodeChangeLog changeLog;
+    private final long emitterTimeout;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService sender;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private long lastSeen = -1;
+    private static final Logger logger = LoggerFactory.getLogger(SwiftCodeChangeFeed.class);
+
+    @Autowired
+    public SwiftCodeChangeFeed(SwiftCodeChangeLog changeLog,
+                               @Value("${swift.changes.poll-interval:1s}") Duration pollInterval,
+                               @Value("${swift.changes.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.changeLog = changeLog;
+        this.emitterTimeout = emitterTimeout.toMillis();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("change-feed-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        CustomizableThreadFactory senderThreadFactory = new CustomizableThreadFactory("change-feed-send-");
+        senderThreadFactory.setDaemon(true);
+        this.sender = Executors.newCachedThreadPool(senderThreadFactory);
+        this.scheduler.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public SwiftCodeChangePageDto page(long after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+        }
+        List<SwiftCodeChangeDto> changes = this.changeLog.findAfter(after, limit);
+        return new SwiftCodeChangePageDto(changes,
+                changes.isEmpty() ? after : changes.get(changes.size() - 1).sequenceNumber());
+    }
+
+    public SseEmitter subscribe(long after) {
+        SseEmitter emitter = new SseEmitter(this.emitterTimeout);
+        Subscription subscription = new Subscription(emitter, after);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscription.close());
+        this.sender.execute(() -> this.catchUp(subscription));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return this.subscriptions.size();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed() {
+        this.scheduler.shutdownNow();
+        this.sender.shutdownNow();
+        this.subscriptions.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    private void catchUp(Subscription subscription) {
+        try {
+            List<SwiftCodeChangeDto> changes;
+            do {
+                changes = this.changeLog.findAfter(subscription.lastSent, PAGE_SIZE);
+                subscription.send(changes);
+            } while (changes.size() == PAGE_SIZE && !subscription.closed);
+            if (!subscription.closed) {
+                this.scheduler.execute(() -> this.register(subscription));
+            }
+        } catch (RuntimeException exception) {
+            logger.warn("Failed to send change backlog: {}", exception.getMessage());
+            subscription.emitter.completeWithError(exception);
+        } finally {
+            subscription.drain();
+        }
+    }
+
+    private void register(Subscription subscription) {
+        try {
+            long position = subscription.lastSent;
+            List<SwiftCodeChangeDto> changes;
+            do {
+                changes = this.changeLog.findAfter(position, PAGE_SIZE);
+                subscription.offer(changes);
+                if (!changes.isEmpty()) {
+                    position = changes.get(changes.size() - 1).sequenceNumber();
+                }
+            } while (changes.size() == PAGE_SIZE && !subscription.closed);
+            if (this.lastSeen < 0) {
+                this.lastSeen = position;
+            }
+            if (!subscription.closed) {
+                this.subscriptions.add(subscription);
+            }
+        } catch (RuntimeException exception) {
+            logger.warn("Failed to send change backlog: {}", exception.getMessage());
+            subscription.emitter.completeWithError(exception);
+        }
+    }
+
+    private void poll() {
+        try {
+            if (this.subscriptions.isEmpty()) {
+                this.lastSeen = -1;
+                return;
+            }
+            List<SwiftCodeChangeDto> changes;
+            do {
+                changes = this.changeLog.findAfter(this.lastSeen, PAGE_SIZE);
+                for (Subscription subscription : this.subscriptions) {
+                    subscription.offer(changes);
+                }
+                if (!changes.isEmpty()) {
+                    this.lastSeen = changes.get(changes.size() - 1).sequenceNumber();
+                }
+            } while (changes.size() == PAGE_SIZE);
+        } catch (RuntimeException exception) {
+            logger.warn("Failed to poll swift code changes: {}", exception.getMessage());
+        }
+    }
+
+    private class Subscription {
+        private final SseEmitter emitter;
+        private final Queue<List<SwiftCodeChangeDto>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingChanges = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean(true);
+        private volatile long lastSent;
+        private volatile boolean closed;
+
+        private Subscription(SseEmitter emitter, long lastSent) {
+            this.emitter = emitter;
+            this.lastSent = lastSent;
+        }
+
+        private void offer(List<SwiftCodeChangeDto> changes) {
+            if (changes.isEmpty() || this.closed) {
+                return;
+            }
+            if (this.pendingChanges.addAndGet(changes.size()) > MAX_PENDING) {
+                logger.info("Closing change stream that is more than {} changes behind", MAX_PENDING);
+                this.close();
+                this.emitter.complete();
+                return;
+            }
+            this.pending.add(changes);
+            if (this.sending.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            List<SwiftCodeChangeDto> changes;
+            while (!this.closed && (changes = this.pending.poll()) != null) {
+                this.pendingChanges.addAndGet(-changes.size());
+                this.send(changes);
+            }
+            this.sending.set(false);
+            if (!this.closed && !this.pending.isEmpty() && this.sending.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void send(List<SwiftCodeChangeDto> changes) {
+            for (SwiftCodeChangeDto change : changes) {
+                if (this.closed) {
+                    return;
+                }
+                if (change.sequenceNumber() <= this.lastSent) {
+                    continue;
+                }
+                try {
+                    this.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(change.sequenceNumber()))
+                            .name(change.operation())
+                            .data(change, MediaType.APPLICATION_JSON));
+                    this.lastSent = change.sequenceNumber();
+                } catch (IOException | IllegalStateException exception) {
+                    this.close();
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            this.closed = true;
+            subscriptions.remove(this);
+        }
+    }
+}
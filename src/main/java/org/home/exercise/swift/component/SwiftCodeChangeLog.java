@@ -0,0 +1,76 @@
+package org.home.exercise.swift.component;
+
+import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.dto.SwiftCodeChangeDto;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class SwiftCodeChangeLog {
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+    public static final String APPEND_LOCK_SQL = "SELECT id FROM swift_code_change_lock WHERE id = 1 FOR UPDATE";
+    private static final String INSERT_SQL = "INSERT INTO swift_code_change (swift_code, operation, changed_at)"
+            + " VALUES (?, ?, CURRENT_TIMESTAMP)";
+    private static final String SELECT_AFTER_SQL = "SELECT c.sequence_number, c.operation, c.swift_code, c.changed_at,"
+            + " s.address, s.name, s.countryiso2, s.country_name, s.is_headquarter"
+            + " FROM swift_code_change c LEFT JOIN swift_code s ON c.operation <> 'DELETED' AND s.swift_code = c.swift_code"
+            + " WHERE c.sequence_number > ? ORDER BY c.sequence_number LIMIT ?";
+    private static final String LATEST_SQL = "SELECT COALESCE(MAX(sequence_number), 0) FROM swift_code_change";
+    private static final RowMapper<SwiftCodeChangeDto> CHANGE_MAPPER = (resultSet, rowNum) -> new SwiftCodeChangeDto(
+            resultSet.getLong("sequence_number"), resultSet.getString("operation"), resultSet.getString("swift_code"),
+            resultSet.getTimestamp("changed_at").toInstant(),
+            resultSet.getString("countryiso2") == null ? null : new BranchDto(resultSet.getString("address"),
+                    resultSet.getString("name"), resultSet.getString("countryiso2"),
+                    resultSet.getString("country_name"), resultSet.getBoolean("is_headquarter"),
+                    resultSet.getString("swift_code")));
+    private static final int BATCH_SIZE = 500;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SwiftCodeChangeLog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void created(List<SwiftCodeEntity> entities) {
+        record(entities.stream().map(SwiftCodeEntity::getSwiftCode).toList(), CREATED);
+    }
+
+    public void updated(List<SwiftCodeEntity> entities) {
+        record(entities.stream().map(SwiftCodeEntity::getSwiftCode).toList(), UPDATED);
+    }
+
+    public void deleted(List<String> swiftCodes) {
+        record(swiftCodes, DELETED);
+    }
+
+    public List<SwiftCodeChangeDto> findAfter(long sequenceNumber, int limit) {
+        return this.jdbcTemplate.query(SELECT_AFTER_SQL, CHANGE_MAPPER, sequenceNumber, limit);
+    }
+
+    public long latestSequenceNumber() {
+        Long latest = this.jdbcTemplate.queryForObject(LATEST_SQL, Long.class);
+        return latest == null ? 0 : latest;
+    }
+
+    public void lockAppends() {
+        this.jdbcTemplate.queryForList(APPEND_LOCK_SQL, Integer.class);
+    }
+
+    private void record(List<String> swiftCodes, String operation) {
+        if (swiftCodes.isEmpty()) {
+            return;
+        }
+        lockAppends();
+        this.jdbcTemplate.batchUpdate(INSERT_SQL, swiftCodes, BATCH_SIZE, (statement, swiftCode) -> {
+            statement.setString(1, swiftCode);
+            statement.setString(2, operation);
+        });
+    }
+}
@@ -0,0 +1,407 @@
+package org.home.exercise.swift.component;
+
+import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.dto.BranchListItemDto;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.repository.SwiftCodeRepository;
+import org.home.exercise.swift.utils.BicCodec;
+import org.home.exercise.swift.utils.LongIntHashMap;
+import org.home.exercise.swift.utils.SwiftCodeSnapshotFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+import static org.home.exercise.swift.utils.TransactionHooks.afterCommit;
+
+@Component
+public class SwiftCodeIndex {
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final SwiftCodeChangeLog changeLog;
+    private final boolean enabled;
+    private final Path snapshotFile;
+    private final TransactionTemplate readTransaction;
+    private final Object writes = new Object();
+    private volatile Snapshot snapshot = new Snapshot(null);
+    private List<Consumer<Snapshot>> pending;
+    private static final Logger logger = LoggerFactory.getLogger(SwiftCodeIndex.class);
+
+    @Autowired
+    public SwiftCodeIndex(SwiftCodeRepository swiftCodeRepository, SwiftCodeChangeLog changeLog,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${swift.index.enabled:false}") boolean enabled,
+                          @Value("${swift.index.snapshot-file:}") String snapshotFile) {
+        this.swiftCodeRepository = swiftCodeRepository;
+        this.changeLog = changeLog;
+        this.enabled = enabled;
+        this.snapshotFile = snapshotFile == null || snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        if (enabled && !openSnapshotFile()) {
+            reload();
+        }
+    }
+
+    public synchronized void reload() {
+        logger.info("Loading swift codes into in-memory index");
+        synchronized (this.writes) {
+            this.pending = new ArrayList<>();
+        }
+        Snapshot loaded = new Snapshot(null);
+        List<SwiftCodeEntity> entities = new ArrayList<>();
+        long sequenceNumber;
+        try {
+            sequenceNumber = this.readTransaction.execute(status -> {
+                long latest = this.snapshotFile == null ? 0 : this.changeLog.latestSequenceNumber();
+                entities.addAll(this.swiftCodeRepository.findAll());
+                return latest;
+            });
+            for (SwiftCodeEntity entity : entities) {
+                loaded.put(entity);
+            }
+            synchronized (this.writes) {
+                this.pending.forEach(write -> write.accept(loaded));
+                this.snapshot = loaded;
+            }
+        } finally {
+            synchronized (this.writes) {
+                this.pending = null;
+            }
+        }
+        logger.info("In-memory index loaded with {} swift codes", loaded.size());
+        writeSnapshotFile(entities, sequenceNumber);
+    }
+
+    private void writeSnapshotFile(List<SwiftCodeEntity> entities, long sequenceNumber) {
+        if (this.snapshotFile == null) {
+            return;
+        }
+        try {
+            SwiftCodeSnapshotFile.write(this.snapshotFile, entities, sequenceNumber);
+            logger.info("Index snapshot file {} written at change {}", this.snapshotFile, sequenceNumber);
+        } catch (IOException e) {
+            logger.warn("Failed to write index snapshot file {}: {}", this.snapshotFile, e.getMessage());
+        }
+    }
+
+    private boolean openSnapshotFile() {
+        if (this.snapshotFile == null || !Files.exists(this.snapshotFile)) {
+            return false;
+        }
+        try {
+            SwiftCodeSnapshotFile file = SwiftCodeSnapshotFile.open(this.snapshotFile);
+            long latest = this.changeLog.latestSequenceNumber();
+            if (file.sequenceNumber() != latest) {
+                logger.info("Index snapshot file {} is at change {} but database is at {}",
+                        this.snapshotFile, file.sequenceNumber(), latest);
+                return false;
+            }
+            this.snapshot = new Snapshot(file);
+            logger.info("In-memory index mapped from {} with {} swift codes", this.snapshotFile, file.size());
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Failed to open index snapshot file {}: {}", this.snapshotFile, e.getMessage());
+            return false;
+        }
+    }
+
+    public Snapshot snapshot() {
+        return this.snapshot;
+    }
+
+    public Optional<BranchDto> find(String swiftCode) {
+        return this.snapshot.find(swiftCode);
+    }
+
+    public List<BranchListItemDto> findBranches(String bic8) {
+        return this.snapshot.findBranches(bic8);
+    }
+
+    public int size() {
+        return this.snapshot.size();
+    }
+
+    public void put(SwiftCodeEntity entity) {
+        if (enabled) {
+            afterCommit(() -> apply(snapshot -> snapshot.put(entity)));
+        }
+    }
+
+    public void remove(String swiftCode) {
+        if (enabled) {
+            afterCommit(() -> apply(snapshot -> snapshot.remove(swiftCode)));
+        }
+    }
+
+    public void removeByBic8(String bic8) {
+        if (enabled) {
+            afterCommit(() -> apply(snapshot -> snapshot.removeByBic8(bic8)));
+        }
+    }
+
+    private void apply(Consumer<Snapshot> write) {
+        synchronized (this.writes) {
+            write.accept(this.snapshot);
+            if (this.pending != null) {
+                this.pending.add(write);
+            }
+        }
+    }
+
+    public static final class Snapshot {
+        private static final int NONE = -1;
+        private final StampedLock lock = new StampedLock();
+        private final LongIntHashMap bySwiftCode = new LongIntHashMap(1024);
+        private final LongIntHashMap bic8Heads = new LongIntHashMap(256);
+        private final SwiftCodeSnapshotFile base;
+        private final LongIntHashMap hidden = new LongIntHashMap(64);
+        private SwiftCodeEntity[] records = new SwiftCodeEntity[1024];
+        private long[] keys = new long[1024];
+        private int[] next = new int[1024];
+        private int[] previous = new int[1024];
+        private int used = 0;
+        private int freeHead = NONE;
+
+        private Snapshot(SwiftCodeSnapshotFile base) {
+            this.base = base;
+        }
+
+        public Optional<BranchDto> find(String swiftCode) {
+            long key = BicCodec.encode(swiftCode);
+            if (key == BicCodec.INVALID) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(get(key));
+        }
+
+        public List<BranchListItemDto> findBranches(String bic8) {
+            long bic8Key = BicCodec.encodeBic8(bic8);
+            if (bic8Key == BicCodec.INVALID) {
+                return List.of();
+            }
+            return group(bic8Key);
+        }
+
+        public int size() {
+            return this.bySwiftCode.size() + (this.base == null ? 0 : this.base.size() - this.hidden.size());
+        }
+
+        private BranchDto get(long key) {
+            long stamp = this.lock.tryOptimisticRead();
+            try {
+                BranchDto branch = read(key);
+                if (this.lock.validate(stamp)) {
+                    return branch;
+                }
+            } catch (RuntimeException e) {
+                // a concurrent write can tear the optimistic read (e.g. a resize), retried under the read lock
+            }
+            stamp = this.lock.readLock();
+            try {
+                return read(key);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        private BranchDto read(long key) {
+            int slot = this.bySwiftCode.get(key);
+            SwiftCodeEntity[] records = this.records;
+            if (slot == LongIntHashMap.MISSING && this.base != null && this.hidden.get(key) == LongIntHashMap.MISSING) {
+                int index = this.base.indexOf(key);
+                return index < 0 ? null : this.base.branchAt(index);
+            }
+            SwiftCodeEntity entity = slot >= 0 && slot < records.length ? records[slot] : null;
+            return entity == null ? null : entity.toSingleBranch();
+        }
+
+        private List<BranchListItemDto> group(long bic8Key) {
+            long stamp = this.lock.tryOptimisticRead();
+            try {
+                List<BranchListItemDto> group = collect(bic8Key);
+                if (group != null && this.lock.validate(stamp)) {
+                    return group;
+                }
+            } catch (RuntimeException e) {
+                // same as in get: a torn optimistic read is retried under the read lock
+            }
+            stamp = this.lock.readLock();
+            try {
+                return collect(bic8Key);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        private List<BranchListItemDto> collect(long bic8Key) {
+            SwiftCodeEntity[] records = this.records;
+            int[] next = this.next;
+            List<BranchListItemDto> group = new ArrayList<>();
+            int visited = 0;
+            for (int slot = this.bic8Heads.get(bic8Key); slot != NONE; slot = next[slot]) {
+                if (slot < 0 || slot >= records.length || slot >= next.length || visited++ == records.length
+                        || records[slot] == null) {
+                    return null;
+                }
+                if (!records[slot].isHeadquarter()) {
+                    group.add(records[slot].toBranchListItem());
+                }
+            }
+            if (this.base != null) {
+                for (int index = this.base.firstOfBank(bic8Key);
+                     index < this.base.size() && BicCodec.bic8Of(this.base.keyAt(index)) == bic8Key; index++) {
+                    if (!this.base.isHeadquarterAt(index)
+                            && this.hidden.get(this.base.keyAt(index)) == LongIntHashMap.MISSING) {
+                        group.add(this.base.branchListItemAt(index));
+                    }
+                }
+            }
+            return group;
+        }
+
+        private void put(SwiftCodeEntity entity) {
+            long key = BicCodec.encode(entity.getSwiftCode());
+            if (key == BicCodec.INVALID) {
+                return;
+            }
+            long stamp = this.lock.writeLock();
+            try {
+                hide(key);
+                int slot = this.bySwiftCode.get(key);
+                if (slot != LongIntHashMap.MISSING) {
+                    this.records[slot] = entity;
+                    return;
+                }
+                slot = allocate();
+                this.records[slot] = entity;
+                this.keys[slot] = key;
+                long bic8Key = BicCodec.bic8Of(key);
+                int head = this.bic8Heads.get(bic8Key);
+                this.previous[slot] = NONE;
+                this.next[slot] = head;
+                if (head != NONE) {
+                    this.previous[head] = slot;
+                }
+                this.bic8Heads.put(bic8Key, slot);
+                this.bySwiftCode.put(key, slot);
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        private void remove(String swiftCode) {
+            long key = BicCodec.encode(swiftCode);
+            if (key == BicCodec.INVALID) {
+                return;
+            }
+            long stamp = this.lock.writeLock();
+            try {
+                hide(key);
+                int slot = this.bySwiftCode.remove(key);
+                if (slot == LongIntHashMap.MISSING) {
+                    return;
+                }
+                unlink(slot);
+                release(slot);
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        private void removeByBic8(String bic8) {
+            long bic8Key = BicCodec.encodeBic8(bic8);
+            if (bic8Key == BicCodec.INVALID) {
+                return;
+            }
+            long stamp = this.lock.writeLock();
+            try {
+                if (this.base != null) {
+                    for (int index = this.base.firstOfBank(bic8Key);
+                         index < this.base.size() && BicCodec.bic8Of(this.base.keyAt(index)) == bic8Key; index++) {
+                        hide(this.base.keyAt(index));
+                    }
+                }
+                int slot = this.bic8Heads.remove(bic8Key);
+                while (slot != NONE) {
+                    int following = this.next[slot];
+                    this.bySwiftCode.remove(this.keys[slot]);
+                    release(slot);
+                    slot = following;
+                }
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        private void hide(long key) {
+            if (this.base != null && this.base.indexOf(key) >= 0) {
+                this.hidden.put(key, 0);
+            }
+        }
+
+        private void unlink(int slot) {
+            int before = this.previous[slot];
+            int after = this.next[slot];
+            if (after != NONE) {
+                this.previous[after] = before;
+            }
+            if (before != NONE) {
+                this.next[before] = after;
+            } else {
+                long bic8Key = BicCodec.bic8Of(this.keys[slot]);
+                if (after != NONE) {
+                    this.bic8Heads.put(bic8Key, after);
+                } else {
+                    this.bic8Heads.remove(bic8Key);
+                }
+            }
+        }
+
+        private int allocate() {
+            if (this.freeHead != NONE) {
+                int slot = this.freeHead;
+                this.freeHead = this.next[slot];
+                return slot;
+            }
+            if (this.used == this.records.length) {
+                int capacity = this.records.length * 2;
+                this.keys = Arrays.copyOf(this.keys, capacity);
+                this.next = Arrays.copyOf(this.next, capacity);
+                this.previous = Arrays.copyOf(this.previous, capacity);
+                this.records = Arrays.copyOf(this.records, capacity);
+            }
+            return this.used++;
+        }
+
+        private void release(int slot) {
+            this.records[slot] = null;
+            this.next[slot] = this.freeHead;
+            this.freeHead = slot;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.home.exercise.swift.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.home.exercise.swift.dto.Iso2ResponseDto;
+import org.home.exercise.swift.dto.SwiftCodeResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.home.exercise.swift.utils.TransactionHooks.afterCommit;
+
+@Component
+public class SwiftCodeResponseCache {
+    private static final String HEADQUARTER_BRANCH_CODE = "XXX";
+    private final Cache<String, SwiftCodeResponse> lookupCache;
+    private final Cache<String, Iso2ResponseDto> countryCache;
+
+    @Autowired
+    public SwiftCodeResponseCache(@Value("${swift.cache.lookup.enabled:false}") boolean lookupEnabled,
+                                  @Value("${swift.cache.lookup.maximum-size:10000}") long lookupMaximumSize,
+                                  @Value("${swift.cache.lookup.ttl:10m}") Duration lookupTtl,
+                                  @Value("${swift.cache.country.enabled:false}") boolean countryEnabled,
+                                  @Value("${swift.cache.country.maximum-size:300}") long countryMaximumSize,
+                                  @Value("${swift.cache.country.ttl:10m}") Duration countryTtl) {
+        this.lookupCache = lookupEnabled ? buildCache(lookupMaximumSize, lookupTtl) : null;
+        this.countryCache = countryEnabled ? buildCache(countryMaximumSize, countryTtl) : null;
+    }
+
+    public SwiftCodeResponse getSwiftCode(String bic11, Function<String, SwiftCodeResponse> loader) {
+        if (lookupCache == null) {
+            return loader.apply(bic11);
+        }
+        return lookupCache.get(bic11, loader);
+    }
+
+    public Optional<SwiftCodeResponse> findSwiftCode(String bic11) {
+        return lookupCache == null ? Optional.empty() : Optional.ofNullable(lookupCache.getIfPresent(bic11));
+    }
+
+    public void putSwiftCode(String bic11, SwiftCodeResponse response) {
+        if (lookupCache != null) {
+            lookupCache.put(bic11, response);
+        }
+    }
+
+    public Iso2ResponseDto getCountry(String iso2, Function<String, Iso2ResponseDto> loader) {
+        if (countryCache == null) {
+            return loader.apply(iso2);
+        }
+        return countryCache.get(iso2, loader);
+    }
+
+    public void invalidateSwiftCode(String swiftCode) {
+        String bic8 = swiftCode.substring(0, 8);
+        afterCommit(() -> {
+            if (lookupCache != null) {
+                lookupCache.invalidate(swiftCode.length() == 8 ? bic8 + HEADQUARTER_BRANCH_CODE : swiftCode);
+                lookupCache.invalidate(bic8 + HEADQUARTER_BRANCH_CODE);
+            }
+            invalidateCountry(swiftCode);
+        });
+    }
+
+    public void invalidateBank(String bic8) {
+        afterCommit(() -> {
+            if (lookupCache != null) {
+                lookupCache.asMap().keySet().removeIf(bic11 -> bic11.startsWith(bic8));
+            }
+            invalidateCountry(bic8);
+        });
+    }
+
+    public void invalidateAll() {
+        if (lookupCache != null) {
+            lookupCache.invalidateAll();
+        }
+        if (countryCache != null) {
+            countryCache.invalidateAll();
+        }
+    }
+
+    public CacheStats lookupStats() {
+        return lookupCache == null ? CacheStats.empty() : lookupCache.stats();
+    }
+
+    public CacheStats countryStats() {
+        return countryCache == null ? CacheStats.empty() : countryCache.stats();
+    }
+
+    private void invalidateCountry(String swiftCode) {
+        if (countryCache != null) {
+            countryCache.invalidate(swiftCode.substring(4, 6));
+        }
+    }
+
+    private static <V> Cache<String, V> buildCache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
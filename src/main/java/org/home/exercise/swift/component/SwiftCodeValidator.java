@@ -9,13 +9,53 @@ import java.util.List;
 
 @Component
 public class SwiftCodeValidator {
+    public static final int VALID = 0;
+    public static final int MISSING_SWIFT_CODE = 1;
+    public static final int MISSING_COUNTRY_ISO2 = 1 << 1;
+    public static final int MISSING_BANK_NAME = 1 << 2;
+    public static final int MISSING_COUNTRY_NAME = 1 << 3;
+    public static final int INVALID_SWIFT_CODE_LENGTH = 1 << 4;
+    public static final int ISO2_MISMATCH = 1 << 5;
+    public static final String[] REASONS = {"missing_swift_code", "missing_country_iso2", "missing_bank_name",
+            "missing_country_name", "invalid_swift_code_length", "iso2_mismatch"};
+
+    public int validateRow(String swiftCode, String countryIso2, String bankName, String countryName) {
+        int result = VALID;
+        if (swiftCode == null) result |= MISSING_SWIFT_CODE;
+        if (countryIso2 == null) result |= MISSING_COUNTRY_ISO2;
+        if (bankName == null) result |= MISSING_BANK_NAME;
+        if (countryName == null) result |= MISSING_COUNTRY_NAME;
+        if (swiftCode == null) {
+            return result;
+        }
+        if (!(swiftCode.length() == 11 || swiftCode.length() == 8)) {
+            return result | INVALID_SWIFT_CODE_LENGTH;
+        }
+        if (countryIso2 != null && (countryIso2.length() != 2
+                || !sameLetter(swiftCode.charAt(4), countryIso2.charAt(0))
+                || !sameLetter(swiftCode.charAt(5), countryIso2.charAt(1)))) {
+            result |= ISO2_MISMATCH;
+        }
+        return result;
+    }
+
+    public static String describe(int result) {
+        StringBuilder reasons = new StringBuilder();
+        for (int i = 0; i < REASONS.length; i++) {
+            if ((result & (1 << i)) != 0) {
+                if (!reasons.isEmpty()) reasons.append(", ");
+                reasons.append(REASONS[i]);
+            }
+        }
+        return reasons.toString();
+    }
 
     public void checkRequiredFieldExist(String swiftCode, String countryIso2, String bankName, String countryName) {
         List<String> missingFields = new ArrayList<>();
-        if (swiftCode == null) missingFields.add("swiftCode");
-        if (countryIso2 == null) missingFields.add("countryIso2");
-        if (bankName == null) missingFields.add("bankName");
-        if (countryName == null) missingFields.add("countryName");
+        if (swiftCode == null || swiftCode.isBlank()) missingFields.add("swiftCode");
+        if (countryIso2 == null || countryIso2.isBlank()) missingFields.add("countryIso2");
+        if (bankName == null || bankName.isBlank()) missingFields.add("bankName");
+        if (countryName == null || countryName.isBlank()) missingFields.add("countryName");
         if (!missingFields.isEmpty()) {
             throw new ValidationException("Missing required fieild in record: " + missingFields);
         }
@@ -46,4 +86,8 @@ public class SwiftCodeValidator {
                     iso2 + ", country code from swift code: " + countryCodeInSwift);
         }
     }
+
+    private static boolean sameLetter(char a, char b) {
+        return a == b || Character.toUpperCase(a) == Character.toUpperCase(b);
+    }
 }
@@ -0,0 +1,191 @@
+package org.home.exercise.swift.component;
+
+import org.home.exercise.swift.dto.CountryTallyDto;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Component
+public class SwiftCodeWriter {
+    private static final String COLUMNS = "swift_code, bic8, countryiso2, name, address, country_name, is_headquarter";
+    private static final String INSERT_SQL = "INSERT INTO swift_code (" + COLUMNS + ") VALUES (:swiftCode, :bic8,"
+            + " :countryIso2, :name, :address, :countryName, :isHeadquarter)";
+    private static final String UPSERT_WITH_DICTIONARIES_SQL = "WITH append_lock AS ("
+            + SwiftCodeChangeLog.APPEND_LOCK_SQL + "), inserted AS (INSERT INTO swift_code (" + COLUMNS + ")"
+            + " SELECT :swiftCode, :bic8, :countryIso2, :name, :address, :countryName, :isHeadquarter FROM append_lock"
+            + " ON CONFLICT DO NOTHING"
+            + " RETURNING swift_code, countryiso2, country_name, bic8, name, is_headquarter),"
+            + " country_codes AS (INSERT INTO country (iso2, country_name, code_count, headquarter_count)"
+            + " SELECT countryiso2, country_name, 1, CASE WHEN is_headquarter THEN 1 ELSE 0 END FROM inserted"
+            + " ON CONFLICT (iso2) DO UPDATE SET code_count = country.code_count + 1,"
+            + " headquarter_count = country.headquarter_count + EXCLUDED.headquarter_count),"
+            + " bank_codes AS (INSERT INTO bank (bic8, name, code_count) SELECT bic8, name, 1 FROM inserted"
+            + " ON CONFLICT (bic8) DO UPDATE SET code_count = bank.code_count + 1),"
+            + " changes AS (INSERT INTO swift_code_change (swift_code, operation, changed_at)"
+            + " SELECT swift_code, '" + SwiftCodeChangeLog.CREATED + "', now() FROM inserted)"
+            + " SELECT COUNT(1) FROM inserted";
+    private static final String DELETED_COLUMNS = "swift_code, bic8, countryiso2, country_name, is_headquarter";
+    private static final RowMapper<DeletedRow> DELETED_ROW_MAPPER = (resultSet, rowNum) -> new DeletedRow(
+            resultSet.getString("swift_code"), resultSet.getString("bic8"), resultSet.getString("countryiso2"),
+            resultSet.getString("country_name"), resultSet.getBoolean("is_headquarter"));
+    private static final int BATCH_SIZE = 500;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SwiftCodeBulkWriter bulkWriter;
+    private final CountryDictionary countryDictionary;
+    private final BankDictionary bankDictionary;
+    private final SwiftCodeChangeLog changeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean normalizedSchema;
+    private final int deleteChunkSize;
+    private volatile Boolean postgres;
+
+    @Autowired
+    public SwiftCodeWriter(NamedParameterJdbcTemplate jdbcTemplate, SwiftCodeBulkWriter bulkWriter,
+                           CountryDictionary countryDictionary, BankDictionary bankDictionary,
+                           SwiftCodeChangeLog changeLog, TransactionTemplate transactionTemplate,
+                           @Value("${swift.schema.normalized:false}") boolean normalizedSchema,
+                           @Value("${swift.delete.chunk-size:500}") int deleteChunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bulkWriter = bulkWriter;
+        this.countryDictionary = countryDictionary;
+        this.bankDictionary = bankDictionary;
+        this.changeLog = changeLog;
+        this.transactionTemplate = transactionTemplate;
+        this.normalizedSchema = normalizedSchema;
+        this.deleteChunkSize = deleteChunkSize;
+    }
+
+    public boolean insert(SwiftCodeEntity entity) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("swiftCode", entity.getSwiftCode())
+                .addValue("bic8", entity.getBic8())
+                .addValue("countryIso2", entity.getCountryISO2())
+                .addValue("name", entity.getName())
+                .addValue("address", entity.getAddress())
+                .addValue("countryName", entity.getCountryName())
+                .addValue("isHeadquarter", entity.isHeadquarter());
+        if (!normalizedSchema && isPostgres()) {
+            Long inserted = this.jdbcTemplate.queryForObject(UPSERT_WITH_DICTIONARIES_SQL, parameters, Long.class);
+            if (inserted == null || inserted == 0) {
+                return false;
+            }
+            this.countryDictionary.mirrorAdded(entity);
+            this.bankDictionary.mirrorAdded(entity);
+            return true;
+        }
+        if (this.jdbcTemplate.update(INSERT_SQL, parameters) == 0) {
+            return false;
+        }
+        this.countryDictionary.added(entity);
+        this.bankDictionary.added(entity);
+        this.changeLog.created(List.of(entity));
+        return true;
+    }
+
+    public boolean hasHeadquarterIndex() {
+        return isPostgres();
+    }
+
+    public List<SwiftCodeEntity> insertAll(List<SwiftCodeEntity> entities) {
+        List<SwiftCodeEntity> inserted = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += BATCH_SIZE) {
+            inserted.addAll(this.bulkWriter.write(entities.subList(from, Math.min(from + BATCH_SIZE, entities.size()))));
+        }
+        this.countryDictionary.addedAll(inserted);
+        this.bankDictionary.addedAll(inserted);
+        this.changeLog.created(inserted);
+        return inserted;
+    }
+
+    public List<String> deleteAll(List<String> codes) {
+        return deleteAll(codes, chunk -> {
+        });
+    }
+
+    public List<String> deleteAll(List<String> codes, Consumer<List<String>> afterChunk) {
+        List<String> deleted = new ArrayList<>();
+        for (int from = 0; from < codes.size(); from += deleteChunkSize) {
+            List<String> group = codes.subList(from, Math.min(from + deleteChunkSize, codes.size()));
+            List<String> chunk;
+            do {
+                chunk = this.transactionTemplate.execute(status -> deleteChunk(group));
+                deleted.addAll(chunk);
+                afterChunk.accept(chunk);
+            } while (chunk.size() == deleteChunkSize);
+        }
+        return deleted;
+    }
+
+    private List<String> deleteChunk(List<String> codes) {
+        List<String> bankCodes = codes.stream().filter(code -> code.length() == 8).toList();
+        List<String> swiftCodes = codes.stream().filter(code -> code.length() != 8).toList();
+        List<String> conditions = new ArrayList<>(2);
+        if (!bankCodes.isEmpty()) {
+            conditions.add("bic8 IN (:bankCodes)");
+        }
+        if (!swiftCodes.isEmpty()) {
+            conditions.add("swift_code IN (:swiftCodes)");
+        }
+        if (conditions.isEmpty()) {
+            return List.of();
+        }
+        String where = " WHERE " + String.join(" OR ", conditions);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("bankCodes", bankCodes)
+                .addValue("swiftCodes", swiftCodes)
+                .addValue("limit", deleteChunkSize);
+        List<DeletedRow> rows;
+        if (!normalizedSchema && isPostgres()) {
+            this.changeLog.lockAppends();
+            rows = this.jdbcTemplate.query("WITH deleted AS (DELETE FROM swift_code WHERE swift_code IN"
+                    + " (SELECT swift_code FROM swift_code" + where + " LIMIT :limit)"
+                    + " RETURNING " + DELETED_COLUMNS + "), changes AS (INSERT INTO swift_code_change"
+                    + " (swift_code, operation, changed_at) SELECT swift_code, '" + SwiftCodeChangeLog.DELETED
+                    + "', now() FROM deleted) SELECT " + DELETED_COLUMNS + " FROM deleted", parameters, DELETED_ROW_MAPPER);
+        } else {
+            rows = this.jdbcTemplate.query("SELECT " + DELETED_COLUMNS + " FROM swift_code" + where + " LIMIT :limit",
+                    parameters, DELETED_ROW_MAPPER);
+            if (!rows.isEmpty()) {
+                this.jdbcTemplate.update("DELETE FROM swift_code WHERE swift_code IN (:deleted)",
+                        new MapSqlParameterSource("deleted", rows.stream().map(DeletedRow::swiftCode).toList()));
+            }
+            this.changeLog.deleted(rows.stream().map(DeletedRow::swiftCode).toList());
+        }
+        Map<String, CountryTallyDto> countries = new HashMap<>();
+        Map<String, Long> banks = new HashMap<>();
+        for (DeletedRow row : rows) {
+            long headquarters = row.headquarter() ? 1 : 0;
+            countries.merge(row.countryIso2(), new CountryTallyDto(row.countryIso2(), row.countryName(), 1L, headquarters),
+                    (current, added) -> new CountryTallyDto(current.countryISO2(), current.countryName(),
+                            current.codeCount() + 1, current.headquarterCount() + headquarters));
+            banks.merge(row.bic8(), 1L, Long::sum);
+        }
+        this.countryDictionary.removed(new ArrayList<>(countries.values()));
+        banks.forEach(this.bankDictionary::removed);
+        return rows.stream().map(DeletedRow::swiftCode).toList();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = this.jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class));
+        }
+        return postgres;
+    }
+
+    private record DeletedRow(String swiftCode, String bic8, String countryIso2, String countryName, boolean headquarter) {
+    }
+}
@@ -0,0 +1,128 @@
+package org.home.exercise.swift.component;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.home.exercise.swift.dto.ImportDiffSummaryDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+@Component
+public class SwiftMetrics {
+    public static final String FOUND = "FOUND";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String NOT_ACCEPTABLE = "NOT_ACCEPTABLE";
+    private final Counter lookupFound;
+    private final Counter lookupNotFound;
+    private final Counter lookupNotAcceptable;
+    private final Counter rowsImported;
+    private final Counter rowsSkipped;
+    private final Counter rowsInserted;
+    private final Counter rowsUpdated;
+    private final Counter rowsDeleted;
+    private final Counter rowsUnchanged;
+    private final Counter[] skipReasons;
+    private final Timer batchFlush;
+    private final Timer importDuration;
+    private final MeterRegistry registry;
+
+    @Autowired
+    public SwiftMetrics(MeterRegistry registry, SwiftCodeResponseCache responseCache, ImportProgress importProgress) {
+        this.lookupFound = lookupCounter(registry, FOUND);
+        this.lookupNotFound = lookupCounter(registry, NOT_FOUND);
+        this.lookupNotAcceptable = lookupCounter(registry, NOT_ACCEPTABLE);
+        this.rowsImported = Counter.builder("swift.import.rows").tag("result", "imported")
+                .description("Rows saved by the Excel import").register(registry);
+        this.rowsSkipped = Counter.builder("swift.import.rows").tag("result", "skipped")
+                .description("Rows rejected by the Excel import").register(registry);
+        this.rowsInserted = diffCounter(registry, "inserted");
+        this.rowsUpdated = diffCounter(registry, "updated");
+        this.rowsDeleted = diffCounter(registry, "deleted");
+        this.rowsUnchanged = diffCounter(registry, "unchanged");
+        this.skipReasons = new Counter[SwiftCodeValidator.REASONS.length];
+        for (int i = 0; i < skipReasons.length; i++) {
+            skipReasons[i] = Counter.builder("swift.import.skipped").tag("reason", SwiftCodeValidator.REASONS[i])
+                    .description("Rows rejected by the Excel import by reason").register(registry);
+        }
+        this.batchFlush = Timer.builder("swift.import.batch")
+                .description("Time to save one import batch").register(registry);
+        this.importDuration = Timer.builder("swift.import")
+                .description("Time of a whole Excel import").register(registry);
+        this.registry = registry;
+        cacheCounters(registry, "lookup", responseCache::lookupStats);
+        cacheCounters(registry, "country", responseCache::countryStats);
+        Gauge.builder("swift.import.progress", importProgress, ImportProgress::percentDone).baseUnit("percent")
+                .description("Share of sheet rows read by the running or last Excel import").register(registry);
+        Gauge.builder("swift.import.throughput", importProgress, ImportProgress::rowsPerSecond)
+                .description("Rows per second of the running or last Excel import").register(registry);
+    }
+
+    public void lookup(String status) {
+        switch (status) {
+            case FOUND -> lookupFound.increment();
+            case NOT_FOUND -> lookupNotFound.increment();
+            default -> lookupNotAcceptable.increment();
+        }
+    }
+
+    public void rowsImported(int rows) {
+        rowsImported.increment(rows);
+    }
+
+    public void rowsChanged(ImportDiffSummaryDto summary) {
+        rowsInserted.increment(summary.inserted());
+        rowsUpdated.increment(summary.updated());
+        rowsDeleted.increment(summary.deleted());
+        rowsUnchanged.increment(summary.unchanged());
+    }
+
+    public void rowSkipped(int validationResult) {
+        rowsSkipped.increment();
+        for (int i = 0; i < skipReasons.length; i++) {
+            if ((validationResult & (1 << i)) != 0) {
+                skipReasons[i].increment();
+            }
+        }
+    }
+
+    public void timeBatchFlush(Runnable flush) {
+        batchFlush.record(flush);
+    }
+
+    public Timer.Sample startImport() {
+        return Timer.start(registry);
+    }
+
+    public void importFinished(Timer.Sample sample) {
+        sample.stop(importDuration);
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String status) {
+        return Counter.builder("swift.lookup.results").tag("status", status)
+                .description("Swift code lookups by outcome").register(registry);
+    }
+
+    private static Counter diffCounter(MeterRegistry registry, String result) {
+        return Counter.builder("swift.import.rows").tag("result", result)
+                .description("Rows changed by a differential Excel import").register(registry);
+    }
+
+    private static void cacheCounters(MeterRegistry registry, String cache, Supplier<CacheStats> stats) {
+        cacheCounter(registry, cache, "hit", stats, CacheStats::hitCount);
+        cacheCounter(registry, cache, "miss", stats, CacheStats::missCount);
+        FunctionCounter.builder("swift.cache.evictions", stats, s -> s.get().evictionCount())
+                .tag("cache", cache).register(registry);
+    }
+
+    private static void cacheCounter(MeterRegistry registry, String cache, String result,
+                                     Supplier<CacheStats> stats, ToLongFunction<CacheStats> count) {
+        FunctionCounter.builder("swift.cache.gets", stats, s -> count.applyAsLong(s.get()))
+                .tag("cache", cache).tag("result", result).register(registry);
+    }
+}
@@ -1,16 +1,24 @@
 package org.home.exercise.swift.controller;
 
 
+import org.apache.catalina.connector.ClientAbortException;
 import org.home.exercise.swift.dto.ErrorResponse;
 import org.home.exercise.swift.exception.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import reactor.netty.channel.AbortedException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     @ExceptionHandler(NotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
@@ -39,11 +47,18 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleValidation(MethodArgumentNotValidException exception) {
-        String errorMessage = exception.getBindingResult().getFieldErrors().stream()
-                .map(err -> err.getField() + ": " + err.getDefaultMessage())
-                .findFirst()
-                .orElse("Invalid input");
-        return new ErrorResponse("BAD_REQUEST", errorMessage);
+        return new ErrorResponse("BAD_REQUEST", this.fieldErrors(exception.getBindingResult()));
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleReactiveValidation(WebExchangeBindException exception) {
+        return new ErrorResponse("BAD_REQUEST", this.fieldErrors(exception.getBindingResult()));
+    }
+
+    @ExceptionHandler({AsyncRequestNotUsableException.class, ClientAbortException.class, AbortedException.class})
+    public void handleClientDisconnect(Exception exception) {
+        logger.debug("Client disconnected: {}", exception.getMessage());
     }
 
     @ExceptionHandler(Exception.class)
@@ -52,4 +67,11 @@ public class GlobalExceptionHandler {
         return new ErrorResponse("INTERNAL_ERROR", "Unexpected error occurred: "
                 + exception.getMessage());
     }
+
+    private String fieldErrors(BindingResult bindingResult) {
+        return bindingResult.getFieldErrors().stream()
+                .map(err -> err.getField() + ": " + err.getDefaultMessage())
+                .findFirst()
+                .orElse("Invalid input");
+    }
 }
@@ -0,0 +1,109 @@
+package org.home.exercise.swift.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.dto.BranchListItemDto;
+import org.home.exercise.swift.dto.CountryDto;
+import org.home.exercise.swift.dto.Iso2PageResponseDto;
+import org.home.exercise.swift.dto.MessageResponseDto;
+import org.home.exercise.swift.dto.SwiftCodeLookupRequestDto;
+import org.home.exercise.swift.dto.SwiftCodeLookupResponseDto;
+import org.home.exercise.swift.service.ReactiveSwiftCodeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/v1/swift-codes")
+public class ReactiveSwiftCodeController {
+
+    private final ReactiveSwiftCodeService swiftCodeService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ReactiveSwiftCodeController(ReactiveSwiftCodeService swiftCodeService, ObjectMapper objectMapper) {
+        this.swiftCodeService = swiftCodeService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/{swift-code}")
+    public Mono<ResponseEntity<Object>> getSwiftCodes(@PathVariable("swift-code") String swiftCode) {
+        return this.swiftCodeService.getSwiftBySwiftCode(swiftCode).map(ResponseEntity::<Object>ok);
+    }
+
+    @PostMapping("/lookup")
+    public Mono<SwiftCodeLookupResponseDto> lookupSwiftCodes(@Valid @RequestBody SwiftCodeLookupRequestDto request) {
+        return this.swiftCodeService.lookupSwiftCodes(request.swiftCodes());
+    }
+
+    @GetMapping(value = "/country/{iso2}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<DataBuffer> getSwiftCodesInCountry(@PathVariable("iso2") String iso2, ServerHttpResponse response) {
+        DataBufferFactory buffers = response.bufferFactory();
+        return this.swiftCodeService.getCountry(iso2).flatMapMany(country -> Flux.concat(
+                Mono.fromCallable(() -> buffers.wrap(this.header(country))),
+                this.swiftCodeService.getBanksInCountry(iso2).index().map(swiftCode ->
+                        buffers.wrap(this.element(swiftCode.getT1(), swiftCode.getT2()))),
+                Mono.fromCallable(() -> buffers.wrap("]}".getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    @GetMapping("/country/{iso2}/page")
+    public Mono<Iso2PageResponseDto> getSwiftCodesInCountryPage(@PathVariable("iso2") String iso2,
+                                                                @RequestParam(value = "after", required = false) String after,
+                                                                @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        return this.swiftCodeService.getBanksInCountryPage(iso2, after, limit);
+    }
+
+    @GetMapping(value = "/country/{iso2}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BranchListItemDto> streamSwiftCodesInCountry(@PathVariable("iso2") String iso2) {
+        return this.swiftCodeService.getCountry(iso2)
+                .flatMapMany(country -> this.swiftCodeService.getBanksInCountry(iso2));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<MessageResponseDto>> createSwiftCode(@Valid @RequestBody BranchDto request) {
+        return this.swiftCodeService.createSwiftCode(request)
+                .then(Mono.fromCallable(() -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(new MessageResponseDto("Swift code created successfully"))));
+    }
+
+    @DeleteMapping("/{swift-code}")
+    public Mono<MessageResponseDto> deleteSwiftCode(@PathVariable("swift-code") String swiftCode) {
+        return this.swiftCodeService.deleteSwiftCode(swiftCode)
+                .map(numberOfDeletedRecord -> new MessageResponseDto("Delete completed successful. Deleted "
+                        + numberOfDeletedRecord + " records"));
+    }
+
+    private byte[] header(CountryDto country) throws JsonProcessingException {
+        return ("{\"countryISO2\":" + this.objectMapper.writeValueAsString(country.countryISO2())
+                + ",\"countryName\":" + this.objectMapper.writeValueAsString(country.countryName())
+                + ",\"swiftCodes\":[").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] element(long index, BranchListItemDto swiftCode) {
+        try {
+            byte[] json = this.objectMapper.writeValueAsBytes(swiftCode);
+            if (index == 0) {
+                return json;
+            }
+            byte[] separated = new byte[json.length + 1];
+            separated[0] = ',';
+            System.arraycopy(json, 0, separated, 1, json.length);
+            return separated;
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
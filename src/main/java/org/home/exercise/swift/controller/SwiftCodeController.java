@@ -1,25 +1,48 @@
 package org.home.exercise.swift.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.home.exercise.swift.component.SwiftCodeChangeFeed;
 import org.home.exercise.swift.dto.BranchDto;
 import org.home.exercise.swift.dto.MessageResponseDto;
+import org.home.exercise.swift.dto.Iso2PageResponseDto;
 import org.home.exercise.swift.dto.Iso2ResponseDto;
+import org.home.exercise.swift.dto.SwiftCodeBulkCreateRequestDto;
+import org.home.exercise.swift.dto.SwiftCodeBulkCreateResponseDto;
+import org.home.exercise.swift.dto.SwiftCodeBulkDeleteRequestDto;
+import org.home.exercise.swift.dto.SwiftCodeBulkDeleteResponseDto;
+import org.home.exercise.swift.dto.SwiftCodeChangePageDto;
+import org.home.exercise.swift.dto.SwiftCodeLookupRequestDto;
+import org.home.exercise.swift.dto.SwiftCodeLookupResponseDto;
 import org.home.exercise.swift.dto.SwiftCodeResponse;
 import org.home.exercise.swift.service.SwiftCodeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/v1/swift-codes")
 public class SwiftCodeController {
 
     private final SwiftCodeService swiftCodeService;
+    private final ObjectMapper objectMapper;
+    private final SwiftCodeChangeFeed changeFeed;
 
     @Autowired
-    public SwiftCodeController(SwiftCodeService swiftCodeService) {
+    public SwiftCodeController(SwiftCodeService swiftCodeService, ObjectMapper objectMapper,
+                               SwiftCodeChangeFeed changeFeed) {
         this.swiftCodeService = swiftCodeService;
+        this.objectMapper = objectMapper;
+        this.changeFeed = changeFeed;
     }
 
     @GetMapping("/{swift-code}")
@@ -28,12 +51,52 @@ public class SwiftCodeController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/lookup")
+    public ResponseEntity<SwiftCodeLookupResponseDto> lookupSwiftCodes(@Valid @RequestBody SwiftCodeLookupRequestDto request) {
+        SwiftCodeLookupResponseDto response = this.swiftCodeService.lookupSwiftCodes(request.swiftCodes());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<SwiftCodeChangePageDto> getChanges(@RequestParam(value = "after", defaultValue = "0") long after,
+                                                             @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        return ResponseEntity.ok(this.changeFeed.page(after, limit));
+    }
+
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(value = "after", required = false) Long after,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return this.changeFeed.subscribe(lastEventId != null ? lastEventId : after != null ? after : 0);
+    }
+
     @GetMapping("/country/{iso2}")
     public ResponseEntity<Iso2ResponseDto> getSwiftCodesInCountry(@PathVariable("iso2") String iso2) {
         Iso2ResponseDto response = this.swiftCodeService.getBanksInCountry(iso2);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/country/{iso2}/page")
+    public ResponseEntity<Iso2PageResponseDto> getSwiftCodesInCountryPage(@PathVariable("iso2") String iso2,
+                                                                          @RequestParam(value = "after", required = false) String after,
+                                                                          @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        Iso2PageResponseDto response = this.swiftCodeService.getBanksInCountryPage(iso2, after, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/country/{iso2}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSwiftCodesInCountry(@PathVariable("iso2") String iso2) {
+        this.swiftCodeService.getCountry(iso2);
+        StreamingResponseBody body = outputStream -> this.swiftCodeService.streamBanksInCountry(iso2, swiftCode -> {
+            try {
+                outputStream.write(this.objectMapper.writeValueAsBytes(swiftCode));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @PostMapping
     public ResponseEntity<MessageResponseDto> createSwiftCode(@Valid @RequestBody BranchDto request) {
         this.swiftCodeService.createSwiftCode(request);
@@ -41,6 +104,18 @@ public class SwiftCodeController {
                 .body(new MessageResponseDto("Swift code created successfully"));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<SwiftCodeBulkCreateResponseDto> createSwiftCodes(@Valid @RequestBody SwiftCodeBulkCreateRequestDto request) {
+        SwiftCodeBulkCreateResponseDto response = this.swiftCodeService.createSwiftCodes(request.swiftCodes());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<SwiftCodeBulkDeleteResponseDto> deleteSwiftCodes(@Valid @RequestBody SwiftCodeBulkDeleteRequestDto request) {
+        SwiftCodeBulkDeleteResponseDto response = this.swiftCodeService.deleteSwiftCodes(request.swiftCodes());
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{swift-code}")
     public ResponseEntity<MessageResponseDto> deleteSwiftCode(@PathVariable("swift-code") String swiftCode) {
         int numberOfDeletedRecord = this.swiftCodeService.deleteSwiftCode(swiftCode);
@@ -0,0 +1,4 @@
+package org.home.exercise.swift.dto;
+
+public record BankTallyDto(String bic8, String name, Long codeCount) {
+}
@@ -2,6 +2,8 @@ package org.home.exercise.swift.dto;
 
 import jakarta.validation.constraints.NotBlank;
 
+import java.util.List;
+
 public record BranchDto(
         String address,
         @NotBlank String bankName,
@@ -9,4 +11,9 @@ public record BranchDto(
         @NotBlank String countryName,
         boolean isHeadquarter,
         @NotBlank String swiftCode) implements SwiftCodeResponse{
+
+    public HeadquarterResponseDto toHeadquarter(List<BranchListItemDto> branches) {
+        return new HeadquarterResponseDto(this.address, this.bankName, this.countryISO2, this.countryName,
+                this.isHeadquarter, this.swiftCode, branches);
+    }
 }
\ No newline at end of file
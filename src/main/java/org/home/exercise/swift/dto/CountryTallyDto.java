@@ -0,0 +1,4 @@
+package org.home.exercise.swift.dto;
+
+public record CountryTallyDto(String countryISO2, String countryName, Long codeCount, Long headquarterCount) {
+}
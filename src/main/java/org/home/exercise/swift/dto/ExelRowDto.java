@@ -0,0 +1,5 @@
+package org.home.exercise.swift.dto;
+
+public record ExelRowDto(int rowNum, String countryIso2, String swiftCode, String bankName, String address,
+                         String countryName) {
+}
@@ -0,0 +1,4 @@
+package org.home.exercise.swift.dto;
+
+public record ImportDiffSummaryDto(long inserted, long updated, long deleted, long unchanged, long skipped) {
+}
@@ -0,0 +1,4 @@
+package org.home.exercise.swift.dto;
+
+public record ImportSummaryDto(long imported, long skipped) {
+}
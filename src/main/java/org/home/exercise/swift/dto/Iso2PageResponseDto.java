@@ -0,0 +1,7 @@
+package org.home.exercise.swift.dto;
+
+import java.util.List;
+
+public record Iso2PageResponseDto(String countryISO2, String countryName, List<BranchListItemDto> swiftCodes,
+                                  String nextCursor) {
+}
@@ -0,0 +1,12 @@
+package org.home.exercise.swift.dto;
+
+public record SwiftCodeBulkCreateResultDto(String swiftCode, String status, String message) {
+
+    public static SwiftCodeBulkCreateResultDto created(String swiftCode) {
+        return new SwiftCodeBulkCreateResultDto(swiftCode, "CREATED", null);
+    }
+
+    public static SwiftCodeBulkCreateResultDto rejected(String swiftCode, String message) {
+        return new SwiftCodeBulkCreateResultDto(swiftCode, "NOT_ACCEPTABLE", message);
+    }
+}
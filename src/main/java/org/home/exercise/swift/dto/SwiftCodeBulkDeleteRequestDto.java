@@ -0,0 +1,9 @@
+package org.home.exercise.swift.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record SwiftCodeBulkDeleteRequestDto(@NotEmpty @Size(max = 5000) List<String> swiftCodes) {
+}
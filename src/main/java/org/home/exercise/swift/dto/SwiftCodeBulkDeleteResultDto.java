@@ -0,0 +1,16 @@
+package org.home.exercise.swift.dto;
+
+public record SwiftCodeBulkDeleteResultDto(String swiftCode, String status, int deleted, String message) {
+
+    public static SwiftCodeBulkDeleteResultDto deleted(String swiftCode, int deleted) {
+        return new SwiftCodeBulkDeleteResultDto(swiftCode, "DELETED", deleted, null);
+    }
+
+    public static SwiftCodeBulkDeleteResultDto notFound(String swiftCode) {
+        return new SwiftCodeBulkDeleteResultDto(swiftCode, "NOT_FOUND", 0, "SWIFT code not found: " + swiftCode);
+    }
+
+    public static SwiftCodeBulkDeleteResultDto invalid(String swiftCode, String message) {
+        return new SwiftCodeBulkDeleteResultDto(swiftCode, "NOT_ACCEPTABLE", 0, message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.home.exercise.swift.dto;
+
+import java.time.Instant;
+
+public record SwiftCodeChangeDto(long sequenceNumber, String operation, String swiftCode, Instant changedAt,
+                                 BranchDto data) {
+}
@@ -0,0 +1,6 @@
+package org.home.exercise.swift.dto;
+
+import java.util.List;
+
+public record SwiftCodeChangePageDto(List<SwiftCodeChangeDto> changes, long lastSequenceNumber) {
+}
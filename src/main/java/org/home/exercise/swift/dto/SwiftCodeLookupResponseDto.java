@@ -0,0 +1,6 @@
+package org.home.exercise.swift.dto;
+
+import java.util.List;
+
+public record SwiftCodeLookupResponseDto(List<SwiftCodeLookupResultDto> results) {
+}
@@ -0,0 +1,16 @@
+package org.home.exercise.swift.dto;
+
+public record SwiftCodeLookupResultDto(String swiftCode, String status, SwiftCodeResponse result, String message) {
+
+    public static SwiftCodeLookupResultDto found(String swiftCode, SwiftCodeResponse result) {
+        return new SwiftCodeLookupResultDto(swiftCode, "FOUND", result, null);
+    }
+
+    public static SwiftCodeLookupResultDto notFound(String swiftCode) {
+        return new SwiftCodeLookupResultDto(swiftCode, "NOT_FOUND", null, "SWIFT code not found: " + swiftCode);
+    }
+
+    public static SwiftCodeLookupResultDto invalid(String swiftCode, String message) {
+        return new SwiftCodeLookupResultDto(swiftCode, "NOT_ACCEPTABLE", null, message);
+    }
+}
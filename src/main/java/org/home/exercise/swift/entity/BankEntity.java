@@ -0,0 +1,66 @@
+package org.home.exercise.swift.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "bank")
+public class BankEntity implements Persistable<String> {
+    @Id
+    private String bic8;
+    private String name;
+    private long codeCount;
+    @Transient
+    private boolean isNew = true;
+
+    public BankEntity() {}
+
+    public BankEntity(String bic8, String name, long codeCount) {
+        this.bic8 = bic8;
+        this.name = name;
+        this.codeCount = codeCount;
+    }
+
+    @Override
+    public String getId() {
+        return bic8;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getBic8() {
+        return bic8;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BankEntity setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public long getCodeCount() {
+        return codeCount;
+    }
+
+    public BankEntity setCodeCount(long codeCount) {
+        this.codeCount = codeCount;
+        return this;
+    }
+}
@@ -0,0 +1,82 @@
+package org.home.exercise.swift.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.home.exercise.swift.dto.CountryDto;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "country")
+public class CountryEntity implements Persistable<String> {
+    @Id
+    private String iso2;
+    private String countryName;
+    private long codeCount;
+    private long headquarterCount;
+    @Transient
+    private boolean isNew = true;
+
+    public CountryEntity() {}
+
+    public CountryEntity(String iso2, String countryName, long codeCount, long headquarterCount) {
+        this.iso2 = iso2;
+        this.countryName = countryName;
+        this.codeCount = codeCount;
+        this.headquarterCount = headquarterCount;
+    }
+
+    @Override
+    public String getId() {
+        return iso2;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getIso2() {
+        return iso2;
+    }
+
+    public String getCountryName() {
+        return countryName;
+    }
+
+    public CountryEntity setCountryName(String countryName) {
+        this.countryName = countryName;
+        return this;
+    }
+
+    public long getCodeCount() {
+        return codeCount;
+    }
+
+    public CountryEntity setCodeCount(long codeCount) {
+        this.codeCount = codeCount;
+        return this;
+    }
+
+    public long getHeadquarterCount() {
+        return headquarterCount;
+    }
+
+    public CountryEntity setHeadquarterCount(long headquarterCount) {
+        this.headquarterCount = headquarterCount;
+        return this;
+    }
+
+    public CountryDto toCountry() {
+        return new CountryDto(this.iso2, this.countryName);
+    }
+}
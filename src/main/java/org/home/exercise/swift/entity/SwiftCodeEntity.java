@@ -2,44 +2,73 @@ package org.home.exercise.swift.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import org.home.exercise.swift.dto.HeadquarterResponseDto;
 import org.home.exercise.swift.dto.BranchListItemDto;
 import org.home.exercise.swift.dto.BranchDto;
+import org.springframework.data.domain.Persistable;
 
 import java.util.List;
 
 @Entity
 @Table(name="swift_code")
-public class SwiftCodeEntity {
+public class SwiftCodeEntity implements Persistable<String> {
     @Id
     private String swiftCode;
+    private String bic8;
     private String countryISO2;
     private String countryName;
     private boolean isHeadquarter;
     private String address;
     private String name;
+    @Transient
+    private boolean isNew = true;
 
     public SwiftCodeEntity(){}
 
     public SwiftCodeEntity(BranchDto branchDto){
         this.address = branchDto.address();
         this.swiftCode = branchDto.swiftCode().toUpperCase();
+        this.bic8 = extractBic8(this.swiftCode);
         this.name = branchDto.bankName();
         this.countryName = branchDto.countryName().toUpperCase();
         this.countryISO2 = branchDto.countryISO2().toUpperCase();
         this.isHeadquarter = branchDto.isHeadquarter();
     }
 
+    @Override
+    public String getId() {
+        return swiftCode;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getSwiftCode() {
         return swiftCode;
     }
 
     public SwiftCodeEntity setSwiftCode(String swiftCode) {
         this.swiftCode = swiftCode;
+        this.bic8 = extractBic8(swiftCode);
         return this;
     }
 
+    public String getBic8() {
+        return bic8;
+    }
+
     public String getCountryISO2() {
         return countryISO2;
     }
@@ -93,8 +122,32 @@ public class SwiftCodeEntity {
                 this.getCountryName().toUpperCase(), this.isHeadquarter(), this.getSwiftCode());
     }
 
+    public BranchListItemDto toBranchListItem() {
+        return new BranchListItemDto(this.getAddress(), this.getName(), this.getCountryISO2(),
+                this.isHeadquarter(), this.getSwiftCode());
+    }
+
     public HeadquarterResponseDto toHeadquarter(List<BranchListItemDto> branches){
         return new HeadquarterResponseDto(this.getAddress(), this.getName(), this.getCountryISO2().toUpperCase(),
                 this.getCountryName().toUpperCase(), this.isHeadquarter(), this.getSwiftCode(), branches);
     }
+
+    public long contentHash() {
+        long hash = 0xcbf29ce484222325L;
+        for (String field : new String[]{this.name, this.address, this.countryISO2, this.countryName}) {
+            if (field == null) {
+                hash = (hash ^ 0xff) * 0x100000001b3L;
+                continue;
+            }
+            for (int i = 0; i < field.length(); i++) {
+                hash = (hash ^ field.charAt(i)) * 0x100000001b3L;
+            }
+            hash = (hash ^ 0xfe) * 0x100000001b3L;
+        }
+        return (hash ^ (this.isHeadquarter ? 1 : 0)) * 0x100000001b3L;
+    }
+
+    private static String extractBic8(String swiftCode) {
+        return swiftCode.length() > 8 ? swiftCode.substring(0, 8) : swiftCode;
+    }
 }
@@ -0,0 +1,29 @@
+package org.home.exercise.swift.repository;
+
+import org.home.exercise.swift.entity.BankEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface BankRepository extends JpaRepository<BankEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BankEntity b SET b.codeCount = b.codeCount + :codes WHERE b.bic8 = :bic8")
+    int addCodes(@Param("bic8") String bic8, @Param("codes") long codes);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO bank (bic8, name, code_count) VALUES (:bic8, :name, 0) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("bic8") String bic8, @Param("name") String name);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BankEntity b WHERE b.bic8 = :bic8 AND b.codeCount <= 0")
+    int deleteIfEmpty(@Param("bic8") String bic8);
+}
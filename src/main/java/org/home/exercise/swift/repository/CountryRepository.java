@@ -0,0 +1,30 @@
+package org.home.exercise.swift.repository;
+
+import org.home.exercise.swift.entity.CountryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface CountryRepository extends JpaRepository<CountryEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE CountryEntity c SET c.codeCount = c.codeCount + :codes," +
+            " c.headquarterCount = c.headquarterCount + :headquarters WHERE c.iso2 = :iso2")
+    int addCodes(@Param("iso2") String iso2, @Param("codes") long codes, @Param("headquarters") long headquarters);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO country (iso2, country_name, code_count, headquarter_count)" +
+            " VALUES (:iso2, :countryName, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("iso2") String iso2, @Param("countryName") String countryName);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CountryEntity c WHERE c.iso2 = :iso2 AND c.codeCount <= 0")
+    int deleteIfEmpty(@Param("iso2") String iso2);
+}
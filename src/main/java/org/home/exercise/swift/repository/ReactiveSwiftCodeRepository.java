@@ -0,0 +1,229 @@
+package org.home.exercise.swift.repository;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.home.exercise.swift.component.SwiftCodeChangeLog;
+import org.home.exercise.swift.dto.BranchListItemDto;
+import org.home.exercise.swift.dto.CountryDto;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Repository
+@Profile("reactive")
+public class ReactiveSwiftCodeRepository implements DisposableBean {
+    private static final String COLUMNS = "swift_code, bic8, countryiso2, country_name, is_headquarter, address, name";
+    private static final String BRANCH_COLUMNS = "address, name, countryiso2, is_headquarter, swift_code";
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    private record DeletedCodes(String iso2, String bic8, long codes, long headquarters) {
+    }
+
+    @Autowired
+    public ReactiveSwiftCodeRepository(@Value("${spring.r2dbc.url}") String url,
+                                       @Value("${spring.r2dbc.username:}") String username,
+                                       @Value("${spring.r2dbc.password:}") String password,
+                                       @Value("${spring.r2dbc.pool.max-size:10}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .maxSize(maxSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(this.connectionPool);
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(this.connectionPool));
+    }
+
+    @Override
+    public void destroy() {
+        this.connectionPool.dispose();
+    }
+
+    public Mono<SwiftCodeEntity> findById(String swiftCode) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM swift_code WHERE swift_code = :swiftCode")
+                .bind("swiftCode", swiftCode)
+                .map(ReactiveSwiftCodeRepository::toEntity)
+                .one();
+    }
+
+    public Flux<SwiftCodeEntity> findAllById(Collection<String> swiftCodes) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM swift_code WHERE swift_code IN (:swiftCodes)")
+                .bind("swiftCodes", swiftCodes)
+                .map(ReactiveSwiftCodeRepository::toEntity)
+                .all();
+    }
+
+    public Flux<BranchListItemDto> findBranchesRelatedToHeadquarters(Collection<String> bankCodes) {
+        return databaseClient.sql("SELECT " + BRANCH_COLUMNS + " FROM swift_code"
+                        + " WHERE bic8 IN (:bankCodes) AND is_headquarter = false")
+                .bind("bankCodes", bankCodes)
+                .map(ReactiveSwiftCodeRepository::toBranchListItem)
+                .all();
+    }
+
+    public Mono<CountryDto> findCountryNameByIso2(String iso2) {
+        return databaseClient.sql("SELECT iso2, country_name FROM country WHERE iso2 = :iso2")
+                .bind("iso2", iso2)
+                .map(row -> new CountryDto(row.get("iso2", String.class), row.get("country_name", String.class)))
+                .one();
+    }
+
+    public Flux<BranchListItemDto> findSwiftCodesForCountry(String iso2) {
+        return databaseClient.sql("SELECT " + BRANCH_COLUMNS + " FROM swift_code WHERE countryiso2 = :iso2"
+                        + " ORDER BY swift_code")
+                .bind("iso2", iso2)
+                .map(ReactiveSwiftCodeRepository::toBranchListItem)
+                .all();
+    }
+
+    public Flux<BranchListItemDto> findSwiftCodesForCountryAfter(String iso2, String after, int limit) {
+        return databaseClient.sql("SELECT " + BRANCH_COLUMNS + " FROM swift_code WHERE countryiso2 = :iso2"
+                        + " AND swift_code > :after ORDER BY swift_code LIMIT :limit")
+                .bind("iso2", iso2)
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveSwiftCodeRepository::toBranchListItem)
+                .all();
+    }
+
+    public Flux<String> findCountryNameRelatedToIso2(String iso2) {
+        return databaseClient.sql("SELECT country_name FROM country WHERE iso2 = :iso2")
+                .bind("iso2", iso2)
+                .map(row -> row.get("country_name", String.class))
+                .all();
+    }
+
+    public Flux<String> findBankNameByBic8(String bic8) {
+        return databaseClient.sql("SELECT name FROM bank WHERE bic8 = :bic8")
+                .bind("bic8", bic8)
+                .map(row -> row.get("name", String.class))
+                .all();
+    }
+
+    public Mono<Void> insert(SwiftCodeEntity entity) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("INSERT INTO swift_code (" + COLUMNS + ")"
+                        + " VALUES (:swiftCode, :bic8, :countryIso2, :countryName, :isHeadquarter, :address, :name)")
+                .bind("swiftCode", entity.getSwiftCode())
+                .bind("bic8", entity.getBic8())
+                .bind("countryIso2", entity.getCountryISO2())
+                .bind("countryName", entity.getCountryName())
+                .bind("isHeadquarter", entity.isHeadquarter())
+                .bind("name", entity.getName());
+        spec = entity.getAddress() == null ? spec.bindNull("address", String.class)
+                : spec.bind("address", entity.getAddress());
+        return spec.then()
+                .then(this.addCountryCodes(entity.getCountryISO2(), entity.getCountryName(), 1, entity.isHeadquarter() ? 1 : 0))
+                .then(this.addBankCodes(entity.getBic8(), entity.getName(), 1))
+                .then(databaseClient.sql(SwiftCodeChangeLog.APPEND_LOCK_SQL).then())
+                .then(databaseClient.sql("INSERT INTO swift_code_change (swift_code, operation, changed_at)"
+                                + " VALUES (:swiftCode, 'CREATED', CURRENT_TIMESTAMP)")
+                        .bind("swiftCode", entity.getSwiftCode())
+                        .then())
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Long> deleteHeadquarterByBic8(String bic8) {
+        return this.deleteWithDictionaries("bic8 = :code", bic8);
+    }
+
+    public Mono<Long> deleteByBic11(String bic11) {
+        return this.deleteWithDictionaries("swift_code = :code", bic11);
+    }
+
+    private Mono<Long> deleteWithDictionaries(String condition, String code) {
+        return databaseClient.sql("SELECT countryiso2, bic8, COUNT(1) AS codes,"
+                        + " SUM(CASE WHEN is_headquarter THEN 1 ELSE 0 END) AS headquarters"
+                        + " FROM swift_code WHERE " + condition + " GROUP BY countryiso2, bic8")
+                .bind("code", code)
+                .map(row -> new DeletedCodes(row.get("countryiso2", String.class), row.get("bic8", String.class),
+                        row.get("codes", Number.class).longValue(), row.get("headquarters", Number.class).longValue()))
+                .all()
+                .collectList()
+                .flatMap(tallies -> databaseClient.sql(SwiftCodeChangeLog.APPEND_LOCK_SQL).then()
+                        .then(databaseClient.sql("INSERT INTO swift_code_change (swift_code, operation, changed_at)"
+                                + " SELECT swift_code, 'DELETED', CURRENT_TIMESTAMP FROM swift_code WHERE " + condition)
+                        .bind("code", code)
+                        .then())
+                        .then(databaseClient.sql("DELETE FROM swift_code WHERE " + condition)
+                                .bind("code", code)
+                                .fetch()
+                                .rowsUpdated())
+                        .flatMap(deleted -> Flux.fromIterable(tallies)
+                                .concatMap(codes -> this.addCountryCodes(codes.iso2(), null,
+                                                -codes.codes(), -codes.headquarters())
+                                        .then(this.addBankCodes(codes.bic8(), null, -codes.codes())))
+                                .then(Mono.just(deleted))))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Void> addCountryCodes(String iso2, String countryName, long codes, long headquarters) {
+        return databaseClient.sql("UPDATE country SET code_count = code_count + :codes,"
+                        + " headquarter_count = headquarter_count + :headquarters WHERE iso2 = :iso2")
+                .bind("codes", codes)
+                .bind("headquarters", headquarters)
+                .bind("iso2", iso2)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == 0 && codes > 0
+                        ? databaseClient.sql("INSERT INTO country (iso2, country_name, code_count, headquarter_count)"
+                                        + " VALUES (:iso2, :countryName, :codes, :headquarters)")
+                                .bind("iso2", iso2)
+                                .bind("countryName", countryName)
+                                .bind("codes", codes)
+                                .bind("headquarters", headquarters)
+                                .then()
+                        : databaseClient.sql("DELETE FROM country WHERE iso2 = :iso2 AND code_count <= 0")
+                                .bind("iso2", iso2)
+                                .then());
+    }
+
+    private Mono<Void> addBankCodes(String bic8, String name, long codes) {
+        return databaseClient.sql("UPDATE bank SET code_count = code_count + :codes WHERE bic8 = :bic8")
+                .bind("codes", codes)
+                .bind("bic8", bic8)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == 0 && codes > 0
+                        ? databaseClient.sql("INSERT INTO bank (bic8, name, code_count) VALUES (:bic8, :name, :codes)")
+                                .bind("bic8", bic8)
+                                .bind("name", name)
+                                .bind("codes", codes)
+                                .then()
+                        : databaseClient.sql("DELETE FROM bank WHERE bic8 = :bic8 AND code_count <= 0")
+                                .bind("bic8", bic8)
+                                .then());
+    }
+
+    private static SwiftCodeEntity toEntity(Readable row) {
+        return new SwiftCodeEntity()
+                .setSwiftCode(row.get("swift_code", String.class))
+                .setCountryISO2(row.get("countryiso2", String.class))
+                .setCountryName(row.get("country_name", String.class))
+                .setHeadquarter(Boolean.TRUE.equals(row.get("is_headquarter", Boolean.class)))
+                .setAddress(row.get("address", String.class))
+                .setName(row.get("name", String.class));
+    }
+
+    private static BranchListItemDto toBranchListItem(Readable row) {
+        return new BranchListItemDto(row.get("address", String.class), row.get("name", String.class),
+                row.get("countryiso2", String.class), Boolean.TRUE.equals(row.get("is_headquarter", Boolean.class)),
+                row.get("swift_code", String.class));
+    }
+}
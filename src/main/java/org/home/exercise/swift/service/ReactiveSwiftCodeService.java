@@ -0,0 +1,243 @@
+package org.home.exercise.swift.service;
+
+import org.home.exercise.swift.component.SwiftCodeIndex;
+import org.home.exercise.swift.component.SwiftCodeResponseCache;
+import org.home.exercise.swift.component.SwiftCodeValidator;
+import org.home.exercise.swift.component.SwiftMetrics;
+import org.home.exercise.swift.dto.*;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.exception.*;
+import org.home.exercise.swift.repository.ReactiveSwiftCodeRepository;
+import org.home.exercise.swift.utils.BicNormalizer;
+import org.home.exercise.swift.utils.BranchClassifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("reactive")
+public class ReactiveSwiftCodeService {
+    private final ReactiveSwiftCodeRepository swiftCodeRepository;
+    private final SwiftCodeValidator validator;
+    private final SwiftCodeIndex swiftCodeIndex;
+    private final SwiftCodeResponseCache responseCache;
+    private final SwiftMetrics swiftMetrics;
+    private final Logger logger = LoggerFactory.getLogger(ReactiveSwiftCodeService.class);
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    public ReactiveSwiftCodeService(ReactiveSwiftCodeRepository swiftCodeRepository, SwiftCodeValidator swiftCodeValidator,
+                                    SwiftCodeIndex swiftCodeIndex, SwiftCodeResponseCache responseCache,
+                                    SwiftMetrics swiftMetrics) {
+        this.swiftCodeRepository = swiftCodeRepository;
+        this.validator = swiftCodeValidator;
+        this.swiftCodeIndex = swiftCodeIndex;
+        this.responseCache = responseCache;
+        this.swiftMetrics = swiftMetrics;
+    }
+
+    public Mono<SwiftCodeResponse> getSwiftBySwiftCode(String swiftCode) {
+        return Mono.defer(() -> {
+            logger.info("Fetching data for SWIFT code: {}", swiftCode);
+            this.validator.checkLengthOfSwiftCode(swiftCode);
+            String bic11 = BicNormalizer.toBic11(swiftCode);
+            return this.responseCache.findSwiftCode(bic11).map(Mono::just).orElseGet(() -> this.loadSwiftCode(swiftCode, bic11)
+                    .doOnNext(response -> this.responseCache.putSwiftCode(bic11, response)));
+        })
+                .doOnSuccess(response -> this.swiftMetrics.lookup(SwiftMetrics.FOUND))
+                .doOnError(NotFoundException.class, exception -> this.swiftMetrics.lookup(SwiftMetrics.NOT_FOUND))
+                .doOnError(ValidationException.class, exception -> this.swiftMetrics.lookup(SwiftMetrics.NOT_ACCEPTABLE));
+    }
+
+    private Mono<SwiftCodeResponse> loadSwiftCode(String swiftCode, String bic11) {
+        SwiftCodeIndex.Snapshot snapshot = this.swiftCodeIndex.snapshot();
+        Mono<BranchDto> branch = this.findSwiftCode(snapshot, bic11)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("SWIFT code not found: " + swiftCode)));
+        if (BranchClassifier.isHeadquarter(swiftCode)) {
+            String bankCode = BicNormalizer.toBic8(bic11);
+            return branch.flatMap(headquarter -> this.findBranches(snapshot, Set.of(bankCode))
+                    .map(branches -> headquarter.toHeadquarter(branches.getOrDefault(bankCode, List.of()))));
+        }
+        return branch.cast(SwiftCodeResponse.class);
+    }
+
+    public Mono<SwiftCodeLookupResponseDto> lookupSwiftCodes(List<String> swiftCodes) {
+        return Mono.defer(() -> {
+            logger.info("Fetching data for {} SWIFT codes", swiftCodes.size());
+            String[] bic11s = new String[swiftCodes.size()];
+            String[] errors = new String[swiftCodes.size()];
+            for (int i = 0; i < swiftCodes.size(); i++) {
+                String swiftCode = swiftCodes.get(i);
+                try {
+                    if (swiftCode == null) {
+                        throw new ValidationException("Missing swift code");
+                    }
+                    this.validator.checkLengthOfSwiftCode(swiftCode);
+                    bic11s[i] = BicNormalizer.toBic11(swiftCode);
+                } catch (ValidationException exception) {
+                    errors[i] = exception.getMessage();
+                }
+            }
+            SwiftCodeIndex.Snapshot snapshot = this.swiftCodeIndex.snapshot();
+            Set<String> requested = Arrays.stream(bic11s).filter(Objects::nonNull).collect(Collectors.toSet());
+            return this.findSwiftCodes(snapshot, requested).flatMap(found -> this.findBranches(snapshot,
+                    found.keySet().stream().filter(BranchClassifier::isHeadquarter).map(BicNormalizer::toBic8)
+                            .collect(Collectors.toSet())).map(branches -> {
+                List<SwiftCodeLookupResultDto> results = new ArrayList<>(swiftCodes.size());
+                for (int i = 0; i < swiftCodes.size(); i++) {
+                    String swiftCode = swiftCodes.get(i);
+                    BranchDto branch = bic11s[i] == null ? null : found.get(bic11s[i]);
+                    if (errors[i] != null) {
+                        results.add(SwiftCodeLookupResultDto.invalid(swiftCode, errors[i]));
+                    } else if (branch == null) {
+                        results.add(SwiftCodeLookupResultDto.notFound(swiftCode));
+                    } else if (BranchClassifier.isHeadquarter(bic11s[i])) {
+                        results.add(SwiftCodeLookupResultDto.found(swiftCode, branch.toHeadquarter(
+                                branches.getOrDefault(BicNormalizer.toBic8(bic11s[i]), List.of()))));
+                    } else {
+                        results.add(SwiftCodeLookupResultDto.found(swiftCode, branch));
+                    }
+                }
+                logger.info("Found {} of {} requested SWIFT codes", found.size(), swiftCodes.size());
+                results.forEach(result -> this.swiftMetrics.lookup(result.status()));
+                return new SwiftCodeLookupResponseDto(results);
+            }));
+        });
+    }
+
+    public Mono<CountryDto> getCountry(String iso2Code) {
+        return Mono.defer(() -> {
+            this.validator.checkLengthOfIso2Code(iso2Code);
+            return this.swiftCodeRepository.findCountryNameByIso2(iso2Code.toUpperCase())
+                    .switchIfEmpty(Mono.error(() -> new NotFoundException("ISO 2 code not found: " + iso2Code)));
+        });
+    }
+
+    public Flux<BranchListItemDto> getBanksInCountry(String iso2Code) {
+        logger.info("Streaming swift codes for ISO 2 code: {}", iso2Code);
+        return this.swiftCodeRepository.findSwiftCodesForCountry(iso2Code.toUpperCase());
+    }
+
+    public Mono<Iso2PageResponseDto> getBanksInCountryPage(String iso2Code, String after, int limit) {
+        return Mono.defer(() -> {
+            logger.info("Fetching page of {} swift codes after {} for ISO 2 code: {}", limit, after, iso2Code);
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                throw new ValidationException("Page limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+            }
+            return this.getCountry(iso2Code).flatMap(country -> this.swiftCodeRepository
+                    .findSwiftCodesForCountryAfter(iso2Code.toUpperCase(), after == null ? "" : after.toUpperCase(), limit)
+                    .collectList()
+                    .map(swiftCodes -> new Iso2PageResponseDto(country.countryISO2(), country.countryName(), swiftCodes,
+                            swiftCodes.size() == limit ? swiftCodes.get(swiftCodes.size() - 1).swiftCode() : null)));
+        });
+    }
+
+    public Mono<Void> createSwiftCode(BranchDto swiftCode) {
+        return Mono.defer(() -> {
+            logger.info("Creating new swift code: {}", swiftCode.swiftCode());
+            this.validator.checkLengthOfSwiftCode(swiftCode.swiftCode());
+            this.validator.checkHeadquarterStatus(swiftCode.swiftCode(), swiftCode.isHeadquarter());
+            if (swiftCode.countryISO2() != null) {
+                this.validator.checkMatchOfCountryIsoAndSwiftCode(swiftCode.swiftCode(), swiftCode.countryISO2());
+            }
+            SwiftCodeEntity entity = new SwiftCodeEntity(swiftCode);
+            return this.swiftCodeRepository.findById(swiftCode.swiftCode())
+                    .flatMap(existing -> Mono.<Void>error(new RecordAlreadyExistException(
+                            "Record already exist for swift code " + swiftCode.swiftCode())))
+                    .then(this.checkSameFirst(this.swiftCodeRepository.findCountryNameRelatedToIso2(swiftCode.countryISO2()),
+                            swiftCode.countryName(),
+                            "Provided country name doesn't match founded in database for provided ISO 2 code"))
+                    .then(this.checkSameFirst(this.swiftCodeRepository.findBankNameByBic8(entity.getBic8()),
+                            swiftCode.bankName(),
+                            "Provided bank name doesn't match founded in database for provided swift code"))
+                    .then(swiftCode.isHeadquarter()
+                            ? this.swiftCodeRepository.findById(entity.getBic8() + "XXX")
+                                    .flatMap(existing -> Mono.<Void>error(new HeadquarterAlreadyExistException(
+                                            "Try to create headquarter but headquarter for this bank already exist")))
+                            : Mono.empty())
+                    .then(this.swiftCodeRepository.insert(entity))
+                    .onErrorMap(DuplicateKeyException.class, exception -> new RecordAlreadyExistException(
+                            "Record already exist for swift code " + swiftCode.swiftCode()))
+                    .doOnSuccess(done -> {
+                        this.swiftCodeIndex.put(entity);
+                        this.responseCache.invalidateSwiftCode(entity.getSwiftCode());
+                        logger.info("Swift code {} successfully created", swiftCode.swiftCode());
+                    });
+        });
+    }
+
+    public Mono<Long> deleteSwiftCode(String swiftCode) {
+        return Mono.defer(() -> {
+            logger.info("Attempting to delete swift code: {}", swiftCode);
+            this.validator.checkLengthOfSwiftCode(swiftCode);
+            String code = swiftCode.toUpperCase();
+            if (code.length() == 8) {
+                return this.swiftCodeRepository.deleteHeadquarterByBic8(code).doOnNext(count -> {
+                    this.swiftCodeIndex.removeByBic8(code);
+                    this.responseCache.invalidateBank(code);
+                    logger.info("Delete operation completed. Deleted {} record(s).", count);
+                });
+            }
+            return this.swiftCodeRepository.deleteByBic11(code).doOnNext(count -> {
+                this.swiftCodeIndex.remove(code);
+                this.responseCache.invalidateSwiftCode(code);
+                logger.info("Delete operation completed. Deleted {} record(s).", count);
+            });
+        });
+    }
+
+    private Mono<BranchDto> findSwiftCode(SwiftCodeIndex.Snapshot snapshot, String bic11) {
+        if (this.swiftCodeIndex.isEnabled()) {
+            return Mono.justOrEmpty(snapshot.find(bic11));
+        }
+        return this.swiftCodeRepository.findById(bic11).map(SwiftCodeEntity::toSingleBranch);
+    }
+
+    private Mono<Map<String, BranchDto>> findSwiftCodes(SwiftCodeIndex.Snapshot snapshot, Set<String> bic11s) {
+        if (this.swiftCodeIndex.isEnabled()) {
+            Map<String, BranchDto> found = new HashMap<>();
+            bic11s.forEach(bic11 -> snapshot.find(bic11).ifPresent(branch -> found.put(bic11, branch)));
+            return Mono.just(found);
+        }
+        if (bic11s.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return this.swiftCodeRepository.findAllById(bic11s).map(SwiftCodeEntity::toSingleBranch)
+                .collectMap(BranchDto::swiftCode);
+    }
+
+    private Mono<Map<String, List<BranchListItemDto>>> findBranches(SwiftCodeIndex.Snapshot snapshot, Set<String> bankCodes) {
+        if (this.swiftCodeIndex.isEnabled()) {
+            Map<String, List<BranchListItemDto>> branches = new HashMap<>();
+            bankCodes.forEach(bic8 -> branches.put(bic8, snapshot.findBranches(bic8)));
+            return Mono.just(branches);
+        }
+        if (bankCodes.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return this.swiftCodeRepository.findBranchesRelatedToHeadquarters(bankCodes)
+                .collectMultimap(branch -> BicNormalizer.toBic8(branch.swiftCode()))
+                .map(branches -> branches.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue()))));
+    }
+
+    private Mono<Void> checkSameFirst(Flux<String> valuesInDb, String value, String message) {
+        return valuesInDb.next()
+                .filter(first -> !first.equals(value))
+                .flatMap(first -> Mono.error(new FieldMismatchException(message)));
+    }
+}
@@ -1,170 +1,485 @@
 package org.home.exercise.swift.service;
 
+import org.home.exercise.swift.component.BankDictionary;
+import org.home.exercise.swift.component.CountryDictionary;
+import org.home.exercise.swift.component.SwiftCodeIndex;
+import org.home.exercise.swift.component.SwiftCodeResponseCache;
 import org.home.exercise.swift.component.SwiftCodeValidator;
+import org.home.exercise.swift.component.SwiftCodeWriter;
+import org.home.exercise.swift.component.SwiftMetrics;
 import org.home.exercise.swift.dto.*;
+import org.home.exercise.swift.entity.BankEntity;
+import org.home.exercise.swift.entity.CountryEntity;
 import org.home.exercise.swift.entity.SwiftCodeEntity;
 import org.home.exercise.swift.exception.*;
 import org.home.exercise.swift.repository.SwiftCodeRepository;
+import org.home.exercise.swift.utils.BicNormalizer;
 import org.home.exercise.swift.utils.BranchClassifier;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class SwiftCodeService {
     private final SwiftCodeRepository swiftCodeRepository;
     private final SwiftCodeValidator validator;
+    private final SwiftCodeIndex swiftCodeIndex;
+    private final SwiftCodeResponseCache responseCache;
+    private final SwiftMetrics swiftMetrics;
+    private final CountryDictionary countryDictionary;
+    private final BankDictionary bankDictionary;
+    private final SwiftCodeWriter swiftCodeWriter;
     private final Logger logger = LoggerFactory.getLogger(SwiftCodeService.class);
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1000;
 
     @Autowired
-    public SwiftCodeService(SwiftCodeRepository swiftCodeRepository, SwiftCodeValidator swiftCodeValidator) {
+    public SwiftCodeService(SwiftCodeRepository swiftCodeRepository, SwiftCodeValidator swiftCodeValidator,
+                            SwiftCodeIndex swiftCodeIndex, SwiftCodeResponseCache responseCache,
+                            SwiftMetrics swiftMetrics, CountryDictionary countryDictionary,
+                            BankDictionary bankDictionary, SwiftCodeWriter swiftCodeWriter) {
         this.swiftCodeRepository = swiftCodeRepository;
         this.validator = swiftCodeValidator;
+        this.swiftCodeIndex = swiftCodeIndex;
+        this.responseCache = responseCache;
+        this.swiftMetrics = swiftMetrics;
+        this.countryDictionary = countryDictionary;
+        this.bankDictionary = bankDictionary;
+        this.swiftCodeWriter = swiftCodeWriter;
     }
 
+    @Timed("swift.service")
     public SwiftCodeResponse getSwiftBySwiftCode(String swiftCode) {
         logger.info("Fetching data for SWIFT code: {}", swiftCode);
-        this.validator.checkLengthOfSwiftCode(swiftCode);
-        String bic11 = this.changeToBic11(swiftCode).toUpperCase();
+        try {
+            this.validator.checkLengthOfSwiftCode(swiftCode);
+            String bic11 = BicNormalizer.toBic11(swiftCode);
+            SwiftCodeResponse response = this.responseCache.getSwiftCode(bic11,
+                    key -> this.loadSwiftCode(swiftCode, bic11));
+            this.swiftMetrics.lookup(SwiftMetrics.FOUND);
+            return response;
+        } catch (NotFoundException exception) {
+            this.swiftMetrics.lookup(SwiftMetrics.NOT_FOUND);
+            throw exception;
+        } catch (ValidationException exception) {
+            this.swiftMetrics.lookup(SwiftMetrics.NOT_ACCEPTABLE);
+            throw exception;
+        }
+    }
+
+    private SwiftCodeResponse loadSwiftCode(String swiftCode, String bic11) {
+        SwiftCodeIndex.Snapshot snapshot = this.swiftCodeIndex.snapshot();
         if (BranchClassifier.isHeadquarter(swiftCode)) {
             logger.info("SWIFT code {} identified as Headquarter", swiftCode);
-            SwiftCodeEntity swiftCodeEntity = this.swiftCodeRepository
-                    .findById(bic11)
+            BranchDto headquarter = this.findSwiftCode(snapshot, bic11)
                     .orElseThrow(() -> new NotFoundException("SWIFT code not found: " + swiftCode));
             String bankCode = bic11.substring(0, bic11.length() - 3);
-            List<BranchListItemDto> branches = this.swiftCodeRepository.findBranchesRelatedToHeadquarter(bankCode);
+            List<BranchListItemDto> branches = this.findBranches(snapshot, bankCode);
             logger.info("Found {} related branches for headquarter {}", branches.size(), swiftCode);
-            return swiftCodeEntity.toHeadquarter(branches);
+            return headquarter.toHeadquarter(branches);
         } else {
             logger.info("SWIFT code {} identified as Branch", swiftCode);
-            SwiftCodeEntity swiftCodeEntity = this.swiftCodeRepository.findById(bic11).orElseThrow(
+            return this.findSwiftCode(snapshot, bic11).orElseThrow(
                     () -> new NotFoundException("SWIFT code not found: " + swiftCode));
-            return swiftCodeEntity.toSingleBranch();
         }
     }
 
+    @Timed("swift.service")
+    public SwiftCodeLookupResponseDto lookupSwiftCodes(List<String> swiftCodes) {
+        logger.info("Fetching data for {} SWIFT codes", swiftCodes.size());
+        String[] bic11s = new String[swiftCodes.size()];
+        String[] errors = new String[swiftCodes.size()];
+        for (int i = 0; i < swiftCodes.size(); i++) {
+            String swiftCode = swiftCodes.get(i);
+            try {
+                if (swiftCode == null) {
+                    throw new ValidationException("Missing swift code");
+                }
+                this.validator.checkLengthOfSwiftCode(swiftCode);
+                bic11s[i] = BicNormalizer.toBic11(swiftCode);
+            } catch (ValidationException exception) {
+                errors[i] = exception.getMessage();
+            }
+        }
+        SwiftCodeIndex.Snapshot snapshot = this.swiftCodeIndex.snapshot();
+        Map<String, BranchDto> found = this.findSwiftCodes(snapshot, Arrays.stream(bic11s)
+                .filter(Objects::nonNull).collect(Collectors.toSet()));
+        Set<String> bankCodes = found.keySet().stream()
+                .filter(BranchClassifier::isHeadquarter)
+                .map(BicNormalizer::toBic8)
+                .collect(Collectors.toSet());
+        Map<String, List<BranchListItemDto>> branches = this.findBranches(snapshot, bankCodes);
+        logger.info("Found {} of {} requested SWIFT codes", found.size(), swiftCodes.size());
+
+        List<SwiftCodeLookupResultDto> results = new ArrayList<>(swiftCodes.size());
+        for (int i = 0; i < swiftCodes.size(); i++) {
+            String swiftCode = swiftCodes.get(i);
+            BranchDto branch = bic11s[i] == null ? null : found.get(bic11s[i]);
+            if (errors[i] != null) {
+                results.add(SwiftCodeLookupResultDto.invalid(swiftCode, errors[i]));
+            } else if (branch == null) {
+                results.add(SwiftCodeLookupResultDto.notFound(swiftCode));
+            } else if (BranchClassifier.isHeadquarter(bic11s[i])) {
+                results.add(SwiftCodeLookupResultDto.found(swiftCode, branch.toHeadquarter(
+                        branches.getOrDefault(BicNormalizer.toBic8(bic11s[i]), List.of()))));
+            } else {
+                results.add(SwiftCodeLookupResultDto.found(swiftCode, branch));
+            }
+        }
+        results.forEach(result -> this.swiftMetrics.lookup(result.status()));
+        return new SwiftCodeLookupResponseDto(results);
+    }
+
+    @Timed("swift.service")
     public Iso2ResponseDto getBanksInCountry(String iso2Code) {
         logger.info("Fetching data for ISO 2 code: {}", iso2Code);
         this.validator.checkLengthOfIso2Code(iso2Code);
-        CountryDto country = this.swiftCodeRepository.findCountryNameByIso2(iso2Code.toUpperCase())
-                .orElseThrow(() -> new NotFoundException("ISO 2 code not found: " + iso2Code));
+        return this.responseCache.getCountry(iso2Code.toUpperCase(), key -> this.loadBanksInCountry(iso2Code));
+    }
+
+    private Iso2ResponseDto loadBanksInCountry(String iso2Code) {
+        CountryDto country = this.findCountry(iso2Code);
         List<BranchListItemDto> swiftCodes = this.swiftCodeRepository.findSwiftCodesForCountry(iso2Code.toUpperCase());
         logger.info("Found {} related swift codes for ISO 2 {}", swiftCodes.size(), iso2Code);
         return new Iso2ResponseDto(country.countryISO2(), country.countryName(), swiftCodes);
     }
 
+    @Timed("swift.service")
+    public Iso2PageResponseDto getBanksInCountryPage(String iso2Code, String after, int limit) {
+        logger.info("Fetching page of {} swift codes after {} for ISO 2 code: {}", limit, after, iso2Code);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+        }
+        CountryDto country = this.getCountry(iso2Code);
+        List<BranchListItemDto> swiftCodes = this.swiftCodeRepository.findSwiftCodesForCountryAfter(
+                iso2Code.toUpperCase(), after == null ? "" : after.toUpperCase(), Limit.of(limit));
+        String nextCursor = swiftCodes.size() == limit ? swiftCodes.get(swiftCodes.size() - 1).swiftCode() : null;
+        logger.info("Found {} related swift codes for ISO 2 {}, next cursor {}", swiftCodes.size(), iso2Code, nextCursor);
+        return new Iso2PageResponseDto(country.countryISO2(), country.countryName(), swiftCodes, nextCursor);
+    }
+
+    public CountryDto getCountry(String iso2Code) {
+        this.validator.checkLengthOfIso2Code(iso2Code);
+        return this.findCountry(iso2Code);
+    }
+
+    private CountryDto findCountry(String iso2Code) {
+        return this.countryDictionary.find(iso2Code.toUpperCase())
+                .map(CountryEntity::toCountry)
+                .orElseThrow(() -> new NotFoundException("ISO 2 code not found: " + iso2Code));
+    }
+
+    @Timed("swift.service")
+    public void streamBanksInCountry(String iso2Code, Consumer<BranchListItemDto> consumer) {
+        logger.info("Streaming swift codes for ISO 2 code: {}", iso2Code);
+        String after = "";
+        List<BranchListItemDto> swiftCodes;
+        do {
+            swiftCodes = this.swiftCodeRepository.findSwiftCodesForCountryAfter(
+                    iso2Code.toUpperCase(), after, Limit.of(STREAM_CHUNK_SIZE));
+            swiftCodes.forEach(consumer);
+            if (!swiftCodes.isEmpty()) {
+                after = swiftCodes.get(swiftCodes.size() - 1).swiftCode();
+            }
+        } while (swiftCodes.size() == STREAM_CHUNK_SIZE);
+    }
+
+    @Timed("swift.service")
+    @Transactional
     public void createSwiftCode(BranchDto swiftCode) {
         logger.info("Creating new swift code: {}", swiftCode.swiftCode());
-        this.validate(swiftCode);
-        if (swiftCode.isHeadquarter()) {
-            if (this.swiftCodeRepository.findById(this.extractBic8(swiftCode.swiftCode().toUpperCase()) + "XXX").isPresent()) {
-                logger.warn("Headquarter already exists for swift code {}", swiftCode.swiftCode());
-                throw new HeadquarterAlreadyExistException("Try to create headquarter but headquarter for this bank already exist");
+        boolean headquarterIndex = this.swiftCodeWriter.hasHeadquarterIndex();
+        this.validate(swiftCode, headquarterIndex);
+        SwiftCodeEntity swiftCodeEntity = new SwiftCodeEntity(swiftCode);
+        if (!headquarterIndex && swiftCodeEntity.isHeadquarter()
+                && !this.swiftCodeRepository.findBankCodesWithHeadquarter(List.of(swiftCodeEntity.getBic8())).isEmpty()) {
+            logger.warn("Headquarter already exists for swift code {}", swiftCode.swiftCode());
+            throw new HeadquarterAlreadyExistException("Try to create headquarter but headquarter for this bank already exist");
+        }
+        boolean inserted;
+        try {
+            inserted = this.swiftCodeWriter.insert(swiftCodeEntity);
+        } catch (DuplicateKeyException exception) {
+            logger.warn("Record with swift code {} already exist in database", swiftCode.swiftCode());
+            throw new RecordAlreadyExistException("Record already exist for swift code " + swiftCode.swiftCode());
+        }
+        if (!inserted) {
+            if (this.swiftCodeRepository.existsById(swiftCodeEntity.getSwiftCode())) {
+                logger.warn("Record with swift code {} already exist in database", swiftCode.swiftCode());
+                throw new RecordAlreadyExistException("Record already exist for swift code " + swiftCode.swiftCode());
             }
+            logger.warn("Headquarter already exists for swift code {}", swiftCode.swiftCode());
+            throw new HeadquarterAlreadyExistException("Try to create headquarter but headquarter for this bank already exist");
         }
-        SwiftCodeEntity swiftCodeEntity = new SwiftCodeEntity(swiftCode);
-        this.swiftCodeRepository.save(swiftCodeEntity);
+        this.swiftCodeIndex.put(swiftCodeEntity);
+        this.responseCache.invalidateSwiftCode(swiftCodeEntity.getSwiftCode());
         logger.info("Swift code {} successfully created", swiftCode.swiftCode());
     }
 
+    @Timed("swift.service")
+    @Transactional
+    public SwiftCodeBulkCreateResponseDto createSwiftCodes(List<BranchDto> swiftCodes) {
+        logger.info("Creating {} swift codes in bulk", swiftCodes.size());
+        SwiftCodeEntity[] entities = new SwiftCodeEntity[swiftCodes.size()];
+        String[] errors = new String[swiftCodes.size()];
+        for (int i = 0; i < swiftCodes.size(); i++) {
+            try {
+                this.checkRequiredFields(swiftCodes.get(i));
+                this.validateFormat(swiftCodes.get(i));
+                entities[i] = new SwiftCodeEntity(swiftCodes.get(i));
+            } catch (ValidationException exception) {
+                errors[i] = exception.getMessage();
+            }
+        }
+        Set<String> taken = this.findInChunks(Arrays.stream(entities).filter(Objects::nonNull)
+                .map(SwiftCodeEntity::getSwiftCode).distinct().toList(), this.swiftCodeRepository::findExistingSwiftCodes);
+        Set<String> headquartered = this.findInChunks(Arrays.stream(entities).filter(Objects::nonNull)
+                .filter(SwiftCodeEntity::isHeadquarter).map(SwiftCodeEntity::getBic8).distinct().toList(),
+                this.swiftCodeRepository::findBankCodesWithHeadquarter);
+        Map<String, String> countryNames = new HashMap<>();
+        Map<String, String> bankNames = new HashMap<>();
+        List<SwiftCodeEntity> accepted = new ArrayList<>();
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < swiftCodes.size(); i++) {
+            SwiftCodeEntity entity = entities[i];
+            if (entity == null) {
+                continue;
+            }
+            String countryName = this.countryDictionary.find(entity.getCountryISO2())
+                    .map(CountryEntity::getCountryName).orElse(countryNames.get(entity.getCountryISO2()));
+            String bankName = this.bankDictionary.find(entity.getBic8())
+                    .map(BankEntity::getName).orElse(bankNames.get(entity.getBic8()));
+            if (taken.contains(entity.getSwiftCode())) {
+                errors[i] = "Record already exist for swift code " + swiftCodes.get(i).swiftCode();
+            } else if (entity.isHeadquarter() && headquartered.contains(entity.getBic8())) {
+                errors[i] = "Try to create headquarter but headquarter for this bank already exist";
+            } else if (countryName != null && !countryName.equals(swiftCodes.get(i).countryName())) {
+                errors[i] = "Provided country name doesn't match founded in database for provided ISO 2 code";
+            } else if (bankName != null && !bankName.equals(swiftCodes.get(i).bankName())) {
+                errors[i] = "Provided bank name doesn't match founded in database for provided swift code";
+            } else {
+                accepted.add(entity);
+                positions.put(entity.getSwiftCode(), i);
+                taken.add(entity.getSwiftCode());
+                if (entity.isHeadquarter()) {
+                    headquartered.add(entity.getBic8());
+                }
+                countryNames.putIfAbsent(entity.getCountryISO2(), entity.getCountryName());
+                bankNames.putIfAbsent(entity.getBic8(), entity.getName());
+            }
+        }
+        List<SwiftCodeEntity> inserted = accepted.isEmpty() ? List.of() : this.swiftCodeWriter.insertAll(accepted);
+        for (SwiftCodeEntity entity : inserted) {
+            positions.remove(entity.getSwiftCode());
+            this.swiftCodeIndex.put(entity);
+            this.responseCache.invalidateSwiftCode(entity.getSwiftCode());
+        }
+        if (!positions.isEmpty()) {
+            Set<String> existing = this.findInChunks(new ArrayList<>(positions.keySet()),
+                    this.swiftCodeRepository::findExistingSwiftCodes);
+            positions.forEach((code, i) -> errors[i] = existing.contains(code)
+                    ? "Record already exist for swift code " + swiftCodes.get(i).swiftCode()
+                    : "Try to create headquarter but headquarter for this bank already exist");
+        }
+        List<SwiftCodeBulkCreateResultDto> results = new ArrayList<>(swiftCodes.size());
+        for (int i = 0; i < swiftCodes.size(); i++) {
+            String swiftCode = swiftCodes.get(i) == null ? null : swiftCodes.get(i).swiftCode();
+            results.add(errors[i] == null ? SwiftCodeBulkCreateResultDto.created(swiftCode)
+                    : SwiftCodeBulkCreateResultDto.rejected(swiftCode, errors[i]));
+        }
+        logger.info("Bulk create completed. Created {} of {} swift codes", inserted.size(), swiftCodes.size());
+        return new SwiftCodeBulkCreateResponseDto(inserted.size(), swiftCodes.size() - inserted.size(), results);
+    }
+
+    @Timed("swift.service")
+    @Transactional
     public int deleteSwiftCode(String swiftCode) {
         logger.info("Attempting to delete swift code: {}", swiftCode);
         this.validator.checkLengthOfSwiftCode(swiftCode);
-        int numberOfDeletedRecord;
-        if (swiftCode.length()==8) {
-            logger.info("Swift code {} identified as bic8. Deleting headquarter and related branches...", swiftCode);
-            numberOfDeletedRecord = this.swiftCodeRepository.deleteHeadquarterByBic8(swiftCode.toUpperCase());
+        String code = swiftCode.toUpperCase();
+        int numberOfDeletedRecord = this.swiftCodeWriter.deleteAll(List.of(code)).size();
+        if (code.length() == 8) {
+            logger.info("Swift code {} identified as bic8. Deleted headquarter and related branches", swiftCode);
+            this.swiftCodeIndex.removeByBic8(code);
+            this.responseCache.invalidateBank(code);
         } else {
-            logger.info("Swift code {} identified as bic11. Deleting swift code...", swiftCode);
-            numberOfDeletedRecord = this.swiftCodeRepository.deleteByBic11(swiftCode.toUpperCase());
+            logger.info("Swift code {} identified as bic11. Deleted swift code", swiftCode);
+            this.swiftCodeIndex.remove(code);
+            this.responseCache.invalidateSwiftCode(code);
         }
         logger.info("Delete operation completed. Deleted {} record(s).", numberOfDeletedRecord);
         return numberOfDeletedRecord;
     }
 
-    private void validate(BranchDto swiftCode){
-        this.validator.checkLengthOfSwiftCode(swiftCode.swiftCode());
-        logger.info("Swift code length validated: {}", swiftCode.swiftCode());
-        this.validator.checkHeadquarterStatus(swiftCode.swiftCode(), swiftCode.isHeadquarter());
-        logger.info("Headquarter status is valid: {}", swiftCode.isHeadquarter());
-        if (swiftCode.countryISO2() != null) {
-            logger.info("Country ISO2 matches swift code: {}", swiftCode.countryISO2());
-            this.validator.checkMatchOfCountryIsoAndSwiftCode(swiftCode.swiftCode(), swiftCode.countryISO2());
+    @Timed("swift.service")
+    public SwiftCodeBulkDeleteResponseDto deleteSwiftCodes(List<String> swiftCodes) {
+        logger.info("Deleting {} swift codes in bulk", swiftCodes.size());
+        String[] codes = new String[swiftCodes.size()];
+        String[] errors = new String[swiftCodes.size()];
+        for (int i = 0; i < swiftCodes.size(); i++) {
+            try {
+                if (swiftCodes.get(i) == null) {
+                    throw new ValidationException("Missing swift code");
+                }
+                this.validator.checkLengthOfSwiftCode(swiftCodes.get(i));
+                codes[i] = swiftCodes.get(i).toUpperCase();
+            } catch (ValidationException exception) {
+                errors[i] = exception.getMessage();
+            }
         }
-        if (this.swiftCodeRepository.findById(swiftCode.swiftCode()).isPresent()) {
-            logger.warn("Record with swift code {} already exist in database", swiftCode.swiftCode());
-            throw new RecordAlreadyExistException("Record already exist for swift code " + swiftCode.swiftCode());
+        List<String> requested = Arrays.stream(codes).filter(Objects::nonNull).distinct().toList();
+        Set<String> exact = new HashSet<>(requested);
+        Map<String, Integer> deleted = new HashMap<>();
+        this.swiftCodeWriter.deleteAll(requested, chunk -> {
+            for (String swiftCode : chunk) {
+                deleted.merge(exact.contains(swiftCode) ? swiftCode : BicNormalizer.toBic8(swiftCode), 1, Integer::sum);
+                this.swiftCodeIndex.remove(swiftCode);
+                this.responseCache.invalidateSwiftCode(swiftCode);
+            }
+        });
+        List<SwiftCodeBulkDeleteResultDto> results = new ArrayList<>(swiftCodes.size());
+        Set<String> reported = new HashSet<>();
+        int total = 0;
+        for (int i = 0; i < swiftCodes.size(); i++) {
+            int count = codes[i] != null && reported.add(codes[i]) ? deleted.getOrDefault(codes[i], 0) : 0;
+            total += count;
+            if (errors[i] != null) {
+                results.add(SwiftCodeBulkDeleteResultDto.invalid(swiftCodes.get(i), errors[i]));
+            } else if (count == 0) {
+                results.add(SwiftCodeBulkDeleteResultDto.notFound(swiftCodes.get(i)));
+            } else {
+                results.add(SwiftCodeBulkDeleteResultDto.deleted(swiftCodes.get(i), count));
+            }
+        }
+        logger.info("Bulk delete completed. Deleted {} record(s) for {} swift codes", total, swiftCodes.size());
+        return new SwiftCodeBulkDeleteResponseDto(total, results);
+    }
+
+    private void validate(BranchDto swiftCode, boolean headquarterIndex){
+        this.validateFormat(swiftCode);
+        if (!headquarterIndex) {
+            this.checkNotExists(swiftCode);
         }
         if (!this.isSameCountryNameForIso2InDatabase(swiftCode.countryISO2(), swiftCode.countryName())) {
             logger.warn("Country name {} does not match database record for ISO2 {}",
                     swiftCode.countryName(), swiftCode.countryISO2());
+            if (headquarterIndex) {
+                this.checkNotExists(swiftCode);
+            }
             throw new FieldMismatchException("Provided country name doesn't match founded in database for provided ISO 2 code");
         }
         if (!this.isSameBankNameForSwiftCodeInDatabase(swiftCode.swiftCode(), swiftCode.bankName())) {
             logger.warn("Bank name {} does not match database record for swift code {}"
                     , swiftCode.bankName(), swiftCode.swiftCode());
+            if (headquarterIndex) {
+                this.checkNotExists(swiftCode);
+            }
             throw new FieldMismatchException(("Provided bank name doesn't match founded in database for provided swift code"));
         }
     }
 
-    private boolean isSameCountryNameForIso2InDatabase(String iso2, String countryName) {
-        logger.info("Comparing country name with previous data in database with ISO 2 code {}", iso2);
-        List<String> countryNameInDb = this.swiftCodeRepository.findCountryNameRelatedToIso2(iso2);
-        boolean isSame;
-        if (countryNameInDb.isEmpty()) {
-            logger.info("No previous data with iso2 {} found. Accepting current country name {}."
-                    , iso2, countryName);
-            isSame = true;
-        } else {
-            isSame = countryName.equals(countryNameInDb.get(0));
+    private void checkNotExists(BranchDto swiftCode) {
+        if (this.swiftCodeRepository.existsById(swiftCode.swiftCode().toUpperCase())) {
+            logger.warn("Record with swift code {} already exist in database", swiftCode.swiftCode());
+            throw new RecordAlreadyExistException("Record already exist for swift code " + swiftCode.swiftCode());
+        }
+    }
+
+    private void validateFormat(BranchDto swiftCode) {
+        this.validator.checkLengthOfSwiftCode(swiftCode.swiftCode());
+        logger.info("Swift code length validated: {}", swiftCode.swiftCode());
+        this.validator.checkHeadquarterStatus(swiftCode.swiftCode(), swiftCode.isHeadquarter());
+        logger.info("Headquarter status is valid: {}", swiftCode.isHeadquarter());
+        if (swiftCode.countryISO2() != null) {
+            logger.info("Country ISO2 matches swift code: {}", swiftCode.countryISO2());
+            this.validator.checkMatchOfCountryIsoAndSwiftCode(swiftCode.swiftCode(), swiftCode.countryISO2());
         }
-        if (countryNameInDb.size() > 1) {
-            logger.warn("Possible incorrect data in database. Found {} country names for ISO 2 {}"
-                    , countryNameInDb.size(), iso2);
+    }
+
+    private void checkRequiredFields(BranchDto swiftCode) {
+        if (swiftCode == null) {
+            throw new ValidationException("Missing swift code");
         }
-        return isSame;
+        this.validator.checkRequiredFieldExist(swiftCode.swiftCode(), swiftCode.countryISO2(),
+                swiftCode.bankName(), swiftCode.countryName());
     }
 
-    private boolean isSameBankNameForSwiftCodeInDatabase(String swiftCode, String bankName) {
-        String bankCode = this.getBankCodeFromSwiftCode(swiftCode);
-        logger.info("Comparing bank name with previous data in database with swift code {}", bankCode);
-        boolean isSame;
-        List<String> bankNameInDb = this.swiftCodeRepository
-                .findBankNameByBic8(bankCode);
-        if (bankNameInDb.isEmpty()) {
-            logger.info("No previous data with bank code {} found. Accepting current bank name {}."
-                    , bankCode, bankName);
-            isSame = true;
-        } else {
-            isSame = bankName.equals(bankNameInDb.get(0));
+    private Set<String> findInChunks(List<String> keys, Function<List<String>, List<String>> query) {
+        Set<String> found = new HashSet<>();
+        for (int from = 0; from < keys.size(); from += IN_CLAUSE_SIZE) {
+            found.addAll(query.apply(keys.subList(from, Math.min(from + IN_CLAUSE_SIZE, keys.size()))));
+        }
+        return found;
+    }
+
+    private Optional<BranchDto> findSwiftCode(SwiftCodeIndex.Snapshot snapshot, String bic11) {
+        if (this.swiftCodeIndex.isEnabled()) {
+            return snapshot.find(bic11);
         }
-        if (bankNameInDb.size() > 1) {
-            logger.warn("Possible incorrect data in database. Found {} bank names for bank code {}"
-                    , bankNameInDb.size(), bankCode);
+        return this.swiftCodeRepository.findById(bic11).map(SwiftCodeEntity::toSingleBranch);
+    }
+
+    private Map<String, BranchDto> findSwiftCodes(SwiftCodeIndex.Snapshot snapshot, Set<String> bic11s) {
+        Map<String, BranchDto> found = new HashMap<>();
+        if (this.swiftCodeIndex.isEnabled()) {
+            bic11s.forEach(bic11 -> snapshot.find(bic11).ifPresent(branch -> found.put(bic11, branch)));
+        } else if (!bic11s.isEmpty()) {
+            this.swiftCodeRepository.findAllById(bic11s)
+                    .forEach(entity -> found.put(entity.getSwiftCode(), entity.toSingleBranch()));
         }
-        return isSame;
+        return found;
     }
 
-    private String getBankCodeFromSwiftCode(String swiftCode) {
-        return swiftCode.substring(0, 4);
+    private Map<String, List<BranchListItemDto>> findBranches(SwiftCodeIndex.Snapshot snapshot, Set<String> bic8s) {
+        Map<String, List<BranchListItemDto>> branches = new HashMap<>();
+        if (this.swiftCodeIndex.isEnabled()) {
+            bic8s.forEach(bic8 -> branches.put(bic8, snapshot.findBranches(bic8)));
+        } else if (!bic8s.isEmpty()) {
+            for (BranchListItemDto branch : this.swiftCodeRepository.findBranchesRelatedToHeadquarters(bic8s)) {
+                branches.computeIfAbsent(BicNormalizer.toBic8(branch.swiftCode()), bic8 -> new ArrayList<>()).add(branch);
+            }
+        }
+        return branches;
     }
 
-    private String changeToBic11(String swiftCode){
-        if(swiftCode.length()==11){
-            return swiftCode;
+    private List<BranchListItemDto> findBranches(SwiftCodeIndex.Snapshot snapshot, String bic8) {
+        if (this.swiftCodeIndex.isEnabled()) {
+            return snapshot.findBranches(bic8);
         }
-        else{
-            return swiftCode + "XXX";
+        return this.swiftCodeRepository.findBranchesRelatedToHeadquarter(bic8);
+    }
+
+    private boolean isSameCountryNameForIso2InDatabase(String iso2, String countryName) {
+        logger.info("Comparing country name with country dictionary for ISO 2 code {}", iso2);
+        Optional<CountryEntity> country = this.countryDictionary.find(iso2.toUpperCase());
+        if (country.isEmpty()) {
+            logger.info("No previous data with iso2 {} found. Accepting current country name {}."
+                    , iso2, countryName);
+            return true;
         }
+        return countryName.equals(country.get().getCountryName());
     }
 
-    private String extractBic8(String swiftCode) {
-        if (swiftCode.length() == 11) {
-            return swiftCode.substring(0, 8);
+    private boolean isSameBankNameForSwiftCodeInDatabase(String swiftCode, String bankName) {
+        String bankCode = BicNormalizer.toBic8(swiftCode.toUpperCase());
+        logger.info("Comparing bank name with bank dictionary for bank code {}", bankCode);
+        Optional<BankEntity> bank = this.bankDictionary.find(bankCode);
+        if (bank.isEmpty()) {
+            logger.info("No previous data with bank code {} found. Accepting current bank name {}."
+                    , bankCode, bankName);
+            return true;
         }
-        return swiftCode;
+        return bankName.equals(bank.get().getName());
     }
 }
@@ -1,98 +1,357 @@
 package org.home.exercise.swift.service;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.home.exercise.swift.component.BankDictionary;
+import org.home.exercise.swift.component.CountryDictionary;
+import org.home.exercise.swift.component.ExelSheetReader;
+import org.home.exercise.swift.component.ImportPipeline;
+import org.home.exercise.swift.component.ImportProgress;
+import org.home.exercise.swift.component.SwiftCodeBulkWriter;
+import org.home.exercise.swift.component.SwiftCodeChangeLog;
+import org.home.exercise.swift.component.SwiftCodeIndex;
+import org.home.exercise.swift.component.SwiftCodeResponseCache;
+import org.home.exercise.swift.component.SwiftMetrics;
+import org.home.exercise.swift.dto.ExelRowDto;
+import org.home.exercise.swift.dto.ImportDiffSummaryDto;
+import org.home.exercise.swift.dto.ImportSummaryDto;
 import org.home.exercise.swift.utils.BranchClassifier;
 import org.home.exercise.swift.component.SwiftCodeValidator;
 import org.home.exercise.swift.entity.SwiftCodeEntity;
-import org.home.exercise.swift.exception.ValidationException;
 import org.home.exercise.swift.repository.SwiftCodeRepository;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToIntFunction;
 
 @Service
 public class SwiftExelLoaderService {
     private final SwiftCodeRepository swiftCodeRepository;
     private final SwiftCodeValidator swiftCodeValidator;
+    private final ExelSheetReader exelSheetReader;
+    private final ImportPipeline importPipeline;
+    private final SwiftCodeBulkWriter swiftCodeBulkWriter;
     private final ResourceLoader resourceLoader;
-    private static final int BATCH_SIZE = 200;
+    private final SwiftMetrics swiftMetrics;
+    private final CountryDictionary countryDictionary;
+    private final BankDictionary bankDictionary;
+    private final SwiftCodeChangeLog changeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final SwiftCodeIndex swiftCodeIndex;
+    private final SwiftCodeResponseCache responseCache;
+    private final ImportProgress importProgress;
+    private final Object importLock = new Object();
     @Value("${swift.loader.file-path}")
     private String filePath;
+    @Value("${swift.loader.streaming:true}")
+    private boolean streaming;
+    @Value("${swift.loader.batch-size:200}")
+    private int batchSize;
+    @Value("${swift.loader.pipeline.enabled:false}")
+    private boolean pipelineEnabled;
+    @Value("${swift.loader.bulk-insert:false}")
+    private boolean bulkInsert;
+    @Value("${swift.loader.differential:false}")
+    private boolean differential;
     private static final Logger logger = LoggerFactory.getLogger(SwiftExelLoaderService.class);
 
     @Autowired
     public SwiftExelLoaderService(SwiftCodeRepository swiftCodeRepository, SwiftCodeValidator swiftCodeValidator,
-                                  ResourceLoader resourceLoader) {
+                                  ExelSheetReader exelSheetReader, ImportPipeline importPipeline,
+                                  SwiftCodeBulkWriter swiftCodeBulkWriter, ResourceLoader resourceLoader,
+                                  SwiftMetrics swiftMetrics, CountryDictionary countryDictionary,
+                                  BankDictionary bankDictionary, SwiftCodeChangeLog changeLog,
+                                  TransactionTemplate transactionTemplate, SwiftCodeIndex swiftCodeIndex,
+                                  SwiftCodeResponseCache responseCache, ImportProgress importProgress) {
         this.swiftCodeRepository = swiftCodeRepository;
         this.swiftCodeValidator = swiftCodeValidator;
+        this.exelSheetReader = exelSheetReader;
+        this.importPipeline = importPipeline;
+        this.swiftCodeBulkWriter = swiftCodeBulkWriter;
         this.resourceLoader = resourceLoader;
+        this.swiftMetrics = swiftMetrics;
+        this.countryDictionary = countryDictionary;
+        this.bankDictionary = bankDictionary;
+        this.changeLog = changeLog;
+        this.transactionTemplate = transactionTemplate;
+        this.swiftCodeIndex = swiftCodeIndex;
+        this.responseCache = responseCache;
+        this.importProgress = importProgress;
     }
 
 
     public void processExel() {
-        logger.info("Starting exel data import from file {}", filePath);
-        if (this.swiftCodeRepository.count() > 0) {
-            logger.info("Skipping import, records already in database");
-        }
-        else {
-            try (InputStream inputStream = resourceLoader.getResource(filePath).getInputStream();
-                 Workbook workbook = new XSSFWorkbook(inputStream)) {
-                int imported = 0, skipped = 0;
-                Sheet sheet = workbook.getSheetAt(0);
-                List<SwiftCodeEntity> entities = new ArrayList<>();
-                for (Row row : sheet) {
-                    if (row.getRowNum() == 0) continue;
-                    String swiftCode = getValue(row.getCell(1));
-                    String bankName = getValue(row.getCell(3));
-                    String address = getValue(row.getCell(4));
-                    String countryIso2 = getValue(row.getCell(0));
-                    String countryName = getValue(row.getCell(6));
+        synchronized (this.importLock) {
+            logger.info("Starting exel data import from file {}", filePath);
+            if (this.swiftCodeRepository.count() > 0) {
+                if (differential) {
                     try {
-                        swiftCodeValidator.checkRequiredFieldExist(swiftCode, countryIso2, bankName, countryName);
-                        swiftCodeValidator.checkLengthOfSwiftCode(swiftCode);
-                        swiftCodeValidator.checkMatchOfCountryIsoAndSwiftCode(swiftCode, countryIso2);
-                    } catch (ValidationException exception) {
-                        logger.warn(exception.getMessage());
-                        logger.info("Record with swift code {} skipped", swiftCode);
-                        skipped++;
-                        continue;
+                        this.importDifferential();
+                    } catch (Exception e) {
+                        logger.error("Failed to apply differential Excel import", e);
+                        this.importProgress.dataAvailable();
                     }
-                    SwiftCodeEntity entity = new SwiftCodeEntity()
-                            .setSwiftCode(swiftCode).setAddress(address).setName(bankName)
-                            .setHeadquarter(BranchClassifier.isHeadquarter(swiftCode))
-                            .setCountryISO2(countryIso2).setCountryName(countryName);
-                    entities.add(entity);
-                    imported++;
-                    if (entities.size() == BATCH_SIZE) {
-                        this.swiftCodeRepository.saveAll(entities);
-                        entities.clear();
+                } else {
+                    logger.info("Skipping import, records already in database");
+                    this.importProgress.skipped();
+                }
+            }
+            else {
+                Timer.Sample sample = this.swiftMetrics.startImport();
+                this.importProgress.started();
+                boolean completed = false;
+                AtomicLong saved = new AtomicLong();
+                ToIntFunction<List<SwiftCodeEntity>> writer = entities -> {
+                    int count = this.save(entities);
+                    saved.addAndGet(count);
+                    return count;
+                };
+                try {
+                    ImportPipeline.RowSource source = this.rowSource();
+                    ImportSummaryDto summary;
+                    if (pipelineEnabled) {
+                        summary = this.importPipeline.run(source, this::toEntity, writer, batchSize);
+                    } else {
+                        RowImporter rowImporter = new RowImporter(writer);
+                        source.read(rowImporter);
+                        rowImporter.flush();
+                        summary = new ImportSummaryDto(rowImporter.imported, rowImporter.skipped);
                     }
+                    logger.info("Import completed. {} record saved, {} skipped", summary.imported(), summary.skipped());
+                    completed = true;
+                } catch (Exception e) {
+                    logger.error("Failed to import Excel data", e);
+                } finally {
+                    try {
+                        if (saved.get() > 0) {
+                            this.refreshAfterImport();
+                        }
+                    } finally {
+                        this.swiftMetrics.importFinished(sample);
+                        this.importProgress.finished(completed);
+                    }
+                }
+            }
+        }
+    }
+
+    public ImportDiffSummaryDto importDifferential() throws Exception {
+        synchronized (this.importLock) {
+            logger.info("Starting differential import from file {}", filePath);
+            Timer.Sample sample = this.swiftMetrics.startImport();
+            this.importProgress.started();
+            boolean completed = false;
+            DiffImporter diffImporter = null;
+            PlatformTransactionManager transactionManager = this.transactionTemplate.getTransactionManager();
+            TransactionStatus transaction = transactionManager.getTransaction(this.transactionTemplate);
+            try {
+                Map<String, Long> existing = new HashMap<>();
+                this.swiftCodeBulkWriter.readAll(entity -> existing.put(entity.getSwiftCode(), entity.contentHash()));
+                diffImporter = new DiffImporter(existing);
+                this.rowSource().read(diffImporter);
+                ImportDiffSummaryDto summary = diffImporter.finish();
+                transactionManager.commit(transaction);
+                logger.info("Differential import completed. {} inserted, {} updated, {} deleted, {} unchanged, "
+                                + "{} skipped", summary.inserted(), summary.updated(), summary.deleted(),
+                        summary.unchanged(), summary.skipped());
+                this.swiftMetrics.rowsChanged(summary);
+                completed = true;
+                return summary;
+            } catch (Throwable e) {
+                if (!transaction.isCompleted()) {
+                    transactionManager.rollback(transaction);
                 }
-                if (!entities.isEmpty()) {
-                    this.swiftCodeRepository.saveAll(entities);
+                throw e;
+            } finally {
+                try {
+                    if (completed && diffImporter.changed()) {
+                        this.refreshAfterImport();
+                    }
+                } finally {
+                    this.swiftMetrics.importFinished(sample);
+                    this.importProgress.finished(completed);
                 }
-                logger.info("Import completed. {} record saved, {} skipped", imported, skipped);
-            } catch (Exception e) {
-                logger.error("Failed to import Excel data: {}", e.getMessage());
             }
         }
     }
 
-    private String getValue(Cell cell) {
-        if (cell == null || cell.getCellType() == CellType.BLANK) {
+    private void refreshAfterImport() {
+        this.countryDictionary.rebuild();
+        this.bankDictionary.rebuild();
+        if (this.swiftCodeIndex.isEnabled()) {
+            this.swiftCodeIndex.reload();
+        }
+        this.responseCache.invalidateAll();
+    }
+
+    private ImportPipeline.RowSource rowSource() {
+        Resource resource = resourceLoader.getResource(filePath);
+        return consumer -> {
+            Consumer<ExelRowDto> dataRows = row -> {
+                if (row.rowNum() > 0) {
+                    this.importProgress.rowRead();
+                    consumer.accept(row);
+                }
+            };
+            LongConsumer totalRows = rows -> this.importProgress.totalRows(Math.max(0, rows - 1));
+            if (streaming) {
+                this.exelSheetReader.readStreaming(resource, dataRows, totalRows);
+            } else {
+                this.exelSheetReader.readWorkbook(resource, dataRows, totalRows);
+            }
+        };
+    }
+
+    private int save(List<SwiftCodeEntity> entities) {
+        List<SwiftCodeEntity> saved = new ArrayList<>(entities.size());
+        this.swiftMetrics.timeBatchFlush(() -> this.transactionTemplate.executeWithoutResult(status -> {
+            if (bulkInsert) {
+                saved.addAll(this.swiftCodeBulkWriter.write(entities));
+            } else {
+                saved.addAll(this.swiftCodeRepository.saveAll(entities));
+            }
+            this.changeLog.created(saved);
+        }));
+        this.swiftMetrics.rowsImported(saved.size());
+        return saved.size();
+    }
+
+    private SwiftCodeEntity toEntity(ExelRowDto row) {
+        String swiftCode = row.swiftCode();
+        int result = swiftCodeValidator.validateRow(swiftCode, row.countryIso2(), row.bankName(), row.countryName());
+        if (result != SwiftCodeValidator.VALID) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Record with swift code {} skipped: {}", swiftCode, SwiftCodeValidator.describe(result));
+            }
+            this.swiftMetrics.rowSkipped(result);
             return null;
         }
-        cell.setCellType(CellType.STRING);
-        String value = cell.getStringCellValue();
-        return value == null || value.isBlank() ? null : value.trim();
+        return new SwiftCodeEntity()
+                .setSwiftCode(swiftCode).setAddress(row.address()).setName(row.bankName())
+                .setHeadquarter(BranchClassifier.isHeadquarter(swiftCode))
+                .setCountryISO2(row.countryIso2()).setCountryName(row.countryName());
     }
 
+    private class RowImporter implements Consumer<ExelRowDto> {
+        private final ToIntFunction<List<SwiftCodeEntity>> writer;
+        private final List<SwiftCodeEntity> entities = new ArrayList<>();
+        private long imported = 0, skipped = 0;
+
+        private RowImporter(ToIntFunction<List<SwiftCodeEntity>> writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(ExelRowDto row) {
+            SwiftCodeEntity entity = toEntity(row);
+            if (entity == null) {
+                skipped++;
+                return;
+            }
+            entities.add(entity);
+            if (entities.size() == batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!entities.isEmpty()) {
+                imported += writer.applyAsInt(entities);
+                entities.clear();
+            }
+        }
+    }
+
+    private class DiffImporter implements Consumer<ExelRowDto> {
+        private final Map<String, Long> existing;
+        private final Set<String> seen = new HashSet<>();
+        private final List<SwiftCodeEntity> inserts = new ArrayList<>();
+        private final List<SwiftCodeEntity> updates = new ArrayList<>();
+        private long inserted = 0, updated = 0, deleted = 0, unchanged = 0, skipped = 0;
+
+        private DiffImporter(Map<String, Long> existing) {
+            this.existing = existing;
+        }
+
+        @Override
+        public void accept(ExelRowDto row) {
+            SwiftCodeEntity entity = toEntity(row);
+            if (entity == null || !seen.add(entity.getSwiftCode())) {
+                skipped++;
+                return;
+            }
+            Long hash = existing.remove(entity.getSwiftCode());
+            if (hash == null) {
+                inserts.add(entity);
+                if (inserts.size() == batchSize) {
+                    flushInserts();
+                }
+            } else if (hash != entity.contentHash()) {
+                updates.add(entity);
+                if (updates.size() == batchSize) {
+                    flushUpdates();
+                }
+            } else {
+                unchanged++;
+            }
+        }
+
+        private boolean changed() {
+            return inserted + updated + deleted > 0;
+        }
+
+        private ImportDiffSummaryDto finish() {
+            flushInserts();
+            flushUpdates();
+            List<String> removed = new ArrayList<>(existing.keySet());
+            for (int from = 0; from < removed.size(); from += batchSize) {
+                List<String> batch = removed.subList(from, Math.min(from + batchSize, removed.size()));
+                swiftMetrics.timeBatchFlush(() -> transactionTemplate.executeWithoutResult(status -> {
+                    swiftCodeBulkWriter.delete(batch);
+                    changeLog.deleted(batch);
+                }));
+                deleted += batch.size();
+            }
+            return new ImportDiffSummaryDto(inserted, updated, deleted, unchanged, skipped);
+        }
+
+        private void flushInserts() {
+            if (!inserts.isEmpty()) {
+                List<SwiftCodeEntity> written = new ArrayList<>(inserts.size());
+                swiftMetrics.timeBatchFlush(() -> transactionTemplate.executeWithoutResult(status -> {
+                    written.addAll(swiftCodeBulkWriter.write(inserts));
+                    changeLog.created(written);
+                }));
+                inserted += written.size();
+                inserts.clear();
+            }
+        }
+
+        private void flushUpdates() {
+            if (!updates.isEmpty()) {
+                swiftMetrics.timeBatchFlush(() -> transactionTemplate.executeWithoutResult(status -> {
+                    swiftCodeBulkWriter.update(updates);
+                    changeLog.updated(updates);
+                }));
+                updated += updates.size();
+                updates.clear();
+            }
+        }
+    }
 }
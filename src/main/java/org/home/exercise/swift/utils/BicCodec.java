@@ -0,0 +1,65 @@
+package org.home.exercise.swift.utils;
+
+public class BicCodec {
+    public static final long INVALID = -1L;
+    private static final long BIC8_FLAG = 1L << 62;
+    private static final long BRANCH_CODES = 36 * 36 * 36;
+
+    public static long encode(String swiftCode) {
+        if (swiftCode.length() == 11) {
+            return encode(swiftCode, 11);
+        }
+        if (swiftCode.length() == 8) {
+            long key = encode(swiftCode, 8);
+            return key == INVALID ? INVALID : key | BIC8_FLAG;
+        }
+        return INVALID;
+    }
+
+    public static long encodeBic8(String swiftCode) {
+        if (swiftCode.length() < 8) {
+            return INVALID;
+        }
+        return encode(swiftCode, 8);
+    }
+
+    public static long bic8Of(long key) {
+        if ((key & BIC8_FLAG) != 0) {
+            return key & ~BIC8_FLAG;
+        }
+        return key / BRANCH_CODES;
+    }
+
+    public static String decode(long key) {
+        boolean bic8 = (key & BIC8_FLAG) != 0;
+        long value = bic8 ? key & ~BIC8_FLAG : key;
+        char[] chars = new char[bic8 ? 8 : 11];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = Character.toUpperCase(Character.forDigit((int) (value % 36), 36));
+            value /= 36;
+        }
+        return new String(chars);
+    }
+
+    private static long encode(String swiftCode, int length) {
+        long key = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = digit(swiftCode.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            key = key * 36 + digit;
+        }
+        return key;
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,19 @@
+package org.home.exercise.swift.utils;
+
+public class BicNormalizer {
+    private static final String HEADQUARTER_BRANCH_CODE = "XXX";
+
+    public static String toBic11(String swiftCode) {
+        if (swiftCode.length() == 11) {
+            return swiftCode.toUpperCase();
+        }
+        return swiftCode.toUpperCase() + HEADQUARTER_BRANCH_CODE;
+    }
+
+    public static String toBic8(String swiftCode) {
+        if (swiftCode.length() == 11) {
+            return swiftCode.substring(0, 8);
+        }
+        return swiftCode;
+    }
+}
@@ -0,0 +1,118 @@
+package org.home.exercise.swift.utils;
+
+import java.util.Arrays;
+
+public class LongIntHashMap {
+    public static final int MISSING = -1;
+    private static final long EMPTY = -1L;
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public int get(long key) {
+        long[] keys = this.keys;
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask), probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            long current = keys[slot];
+            if (current == key) {
+                return this.values[slot];
+            }
+            if (current == EMPTY) {
+                return MISSING;
+            }
+        }
+        return MISSING;
+    }
+
+    public int put(long key, int value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Negative keys are not supported: " + key);
+        }
+        int slot = slot(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+        return MISSING;
+    }
+
+    public int remove(long key) {
+        int slot = slot(key, mask);
+        while (keys[slot] != key) {
+            if (keys[slot] == EMPTY) {
+                return MISSING;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int removed = values[slot];
+        shiftBack(slot);
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void shiftBack(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == EMPTY) {
+                break;
+            }
+            int home = slot(key, mask);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        keys[gap] = EMPTY;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i], mask);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.keys = keys;
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
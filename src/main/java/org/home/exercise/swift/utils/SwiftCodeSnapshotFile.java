@@ -0,0 +1,188 @@
+package org.home.exercise.swift.utils;
+
+import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.dto.BranchListItemDto;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SwiftCodeSnapshotFile {
+    private static final int MAGIC = 0x53574946;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE = 20;
+    private static final int NULL = -1;
+    private static final int HEADQUARTER = 1;
+    private final ByteBuffer buffer;
+    private final int count;
+    private final long sequenceNumber;
+    private final int recordsOffset;
+    private final int poolOffset;
+
+    private SwiftCodeSnapshotFile(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a swift code snapshot file");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot file version: " + buffer.getInt(4));
+        }
+        this.buffer = buffer;
+        this.count = buffer.getInt(8);
+        this.sequenceNumber = buffer.getLong(16);
+        this.recordsOffset = HEADER_SIZE + this.count * Long.BYTES;
+        this.poolOffset = this.recordsOffset + this.count * RECORD_SIZE;
+        if (this.poolOffset + buffer.getInt(12) != buffer.capacity()) {
+            throw new IllegalArgumentException("Truncated snapshot file");
+        }
+    }
+
+    public static SwiftCodeSnapshotFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new SwiftCodeSnapshotFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static void write(Path path, Collection<SwiftCodeEntity> entities, long sequenceNumber)
+            throws IOException {
+        SwiftCodeEntity[] sorted = entities.stream()
+                .filter(entity -> entity.getSwiftCode().length() == 11
+                        && BicCodec.encode(entity.getSwiftCode()) != BicCodec.INVALID)
+                .sorted(Comparator.comparingLong(entity -> BicCodec.encode(entity.getSwiftCode())))
+                .toArray(SwiftCodeEntity[]::new);
+        ByteArrayOutputStream records = new ByteArrayOutputStream(sorted.length * RECORD_SIZE);
+        ByteArrayOutputStream pool = new ByteArrayOutputStream();
+        DataOutputStream recordsOut = new DataOutputStream(records);
+        DataOutputStream poolOut = new DataOutputStream(pool);
+        Map<String, Integer> pooled = new HashMap<>();
+        long[] keys = new long[sorted.length];
+        int count = 0;
+        for (SwiftCodeEntity entity : sorted) {
+            long key = BicCodec.encode(entity.getSwiftCode());
+            if (count > 0 && keys[count - 1] == key) {
+                continue;
+            }
+            keys[count++] = key;
+            recordsOut.writeInt(intern(entity.getName(), pooled, poolOut));
+            recordsOut.writeInt(intern(entity.getAddress(), pooled, poolOut));
+            recordsOut.writeInt(intern(entity.getCountryISO2(), pooled, poolOut));
+            recordsOut.writeInt(intern(entity.getCountryName(), pooled, poolOut));
+            recordsOut.writeInt(entity.isHeadquarter() ? HEADQUARTER : 0);
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(count);
+            out.writeInt(pool.size());
+            out.writeLong(sequenceNumber);
+            out.writeLong(0);
+            for (long key : Arrays.copyOf(keys, count)) {
+                out.writeLong(key);
+            }
+            records.writeTo(out);
+            pool.writeTo(out);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public int size() {
+        return this.count;
+    }
+
+    public long sequenceNumber() {
+        return this.sequenceNumber;
+    }
+
+    public int indexOf(long key) {
+        int low = 0;
+        int high = this.count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long current = keyAt(middle);
+            if (current < key) {
+                low = middle + 1;
+            } else if (current > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    public int firstOfBank(long bic8Key) {
+        int low = 0;
+        int high = this.count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (BicCodec.bic8Of(keyAt(middle)) < bic8Key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public long keyAt(int index) {
+        return this.buffer.getLong(HEADER_SIZE + index * Long.BYTES);
+    }
+
+    public BranchDto branchAt(int index) {
+        int record = this.recordsOffset + index * RECORD_SIZE;
+        return new BranchDto(string(this.buffer.getInt(record + 4)), string(this.buffer.getInt(record)),
+                string(this.buffer.getInt(record + 8)).toUpperCase(),
+                string(this.buffer.getInt(record + 12)).toUpperCase(), isHeadquarterAt(index),
+                BicCodec.decode(keyAt(index)));
+    }
+
+    public BranchListItemDto branchListItemAt(int index) {
+        int record = this.recordsOffset + index * RECORD_SIZE;
+        return new BranchListItemDto(string(this.buffer.getInt(record + 4)), string(this.buffer.getInt(record)),
+                string(this.buffer.getInt(record + 8)), isHeadquarterAt(index), BicCodec.decode(keyAt(index)));
+    }
+
+    public boolean isHeadquarterAt(int index) {
+        return (this.buffer.getInt(this.recordsOffset + index * RECORD_SIZE + 16) & HEADQUARTER) != 0;
+    }
+
+    private String string(int offset) {
+        if (offset == NULL) {
+            return null;
+        }
+        int position = this.poolOffset + offset;
+        byte[] bytes = new byte[this.buffer.getInt(position)];
+        this.buffer.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int intern(String value, Map<String, Integer> pooled, DataOutputStream pool) throws IOException {
+        if (value == null) {
+            return NULL;
+        }
+        Integer offset = pooled.get(value);
+        if (offset == null) {
+            offset = pool.size();
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            pool.writeInt(bytes.length);
+            pool.write(bytes);
+            pooled.put(value, offset);
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,67 @@
+package integration;
+
+import org.home.exercise.swift.component.ImportProgress;
+import org.home.exercise.swift.repository.SwiftCodeRepository;
+import org.home.exercise.swift.service.SwiftExelLoaderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = org.home.exercise.swift.Application.class)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class MetricsIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private SwiftCodeRepository repository;
+    @Autowired
+    private SwiftExelLoaderService loaderService;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        loaderService.processExel();
+    }
+
+    @Test
+    void testPrometheusEndpointExposesServiceRepositoryAndImportMetrics() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/AAISALTRXXX")).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/swift-codes/AAAAAAAAXXX")).andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "swift_service_seconds_bucket{class=\"org.home.exercise.swift.service.SwiftCodeService\"")))
+                .andExpect(content().string(containsString("swift_lookup_results_total{status=\"FOUND\"}")))
+                .andExpect(content().string(containsString("swift_lookup_results_total{status=\"NOT_FOUND\"}")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("swift_import_rows_total{result=\"imported\"}")))
+                .andExpect(content().string(containsString("swift_import_batch_seconds_count")))
+                .andExpect(content().string(containsString("swift_import_progress_percent 100.0")))
+                .andExpect(content().string(containsString("swift_import_throughput")));
+    }
+
+    @Test
+    void testReadinessIncludesImportProgress() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components.import.status").value("UP"))
+                .andExpect(jsonPath("$.components.import.details.status").value(ImportProgress.COMPLETED))
+                .andExpect(jsonPath("$.components.import.details.percentDone").value(100.0));
+    }
+}
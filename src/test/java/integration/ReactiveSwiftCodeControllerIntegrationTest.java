@@ -0,0 +1,202 @@
+package integration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.home.exercise.swift.component.BankDictionary;
+import org.home.exercise.swift.component.CountryDictionary;
+import org.home.exercise.swift.controller.ReactiveSwiftCodeController;
+import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.dto.SwiftCodeLookupRequestDto;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.repository.SwiftCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = org.home.exercise.swift.Application.class)
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "reactive"})
+public class ReactiveSwiftCodeControllerIntegrationTest {
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private SwiftCodeRepository repository;
+    @Autowired
+    private CountryDictionary countryDictionary;
+    @Autowired
+    private BankDictionary bankDictionary;
+    @Autowired
+    private MeterRegistry registry;
+    @Autowired
+    private ReactiveSwiftCodeController controller;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        repository.saveAll(List.of(
+                new SwiftCodeEntity(new BranchDto("ul. 1", "PKO", "PL", "POLAND", true, "PKOPPLPWXXX")),
+                new SwiftCodeEntity(new BranchDto("ul. 2", "PKO", "PL", "POLAND", false, "PKOPPLPW001")),
+                new SwiftCodeEntity(new BranchDto(null, "ING", "PL", "POLAND", false, "INGBPLPW002"))));
+        countryDictionary.rebuild();
+        bankDictionary.rebuild();
+    }
+
+    @Test
+    void testGetHeadquarterWithBranches() {
+        webTestClient.get().uri("/v1/swift-codes/PKOPPLPWXXX").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.bankName").isEqualTo("PKO")
+                .jsonPath("$.isHeadquarter").isEqualTo(true)
+                .jsonPath("$.branches.length()").isEqualTo(1)
+                .jsonPath("$.branches[0].swiftCode").isEqualTo("PKOPPLPW001");
+    }
+
+    @Test
+    void testLookupOutcomesAreCounted() {
+        double found = registry.counter("swift.lookup.results", "status", "FOUND").count();
+        double notFound = registry.counter("swift.lookup.results", "status", "NOT_FOUND").count();
+        webTestClient.get().uri("/v1/swift-codes/PKOPPLPW001").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/v1/swift-codes/AAAAAAAAXXX").exchange().expectStatus().isNotFound();
+        assertEquals(found + 1, registry.counter("swift.lookup.results", "status", "FOUND").count());
+        assertEquals(notFound + 1, registry.counter("swift.lookup.results", "status", "NOT_FOUND").count());
+    }
+
+    @Test
+    void testCountryHeaderSerializationFailureIsServerError() throws Exception {
+        ObjectMapper failingMapper = mock(ObjectMapper.class);
+        when(failingMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("broken") {
+        });
+        ReflectionTestUtils.setField(controller, "objectMapper", failingMapper);
+        try {
+            webTestClient.get().uri("/v1/swift-codes/country/PL").exchange()
+                    .expectStatus().is5xxServerError()
+                    .expectBody()
+                    .jsonPath("$.error").isEqualTo("INTERNAL_ERROR");
+        } finally {
+            ReflectionTestUtils.setField(controller, "objectMapper", objectMapper);
+        }
+    }
+
+    @Test
+    void testGetBranch() {
+        webTestClient.get().uri("/v1/swift-codes/PKOPPLPW001").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.address").isEqualTo("ul. 2")
+                .jsonPath("$.isHeadquarter").isEqualTo(false);
+    }
+
+    @Test
+    void testGetUnknownAndInvalidCode() {
+        webTestClient.get().uri("/v1/swift-codes/AAAAAAAAXXX").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").value(is("SWIFT code not found: AAAAAAAAXXX"));
+        webTestClient.get().uri("/v1/swift-codes/ABC").exchange()
+                .expectStatus().isEqualTo(406);
+    }
+
+    @Test
+    void testCountryListingIsStreamedAsSameDocument() {
+        webTestClient.get().uri("/v1/swift-codes/country/pl").exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.countryISO2").isEqualTo("PL")
+                .jsonPath("$.countryName").isEqualTo("POLAND")
+                .jsonPath("$.swiftCodes.length()").isEqualTo(3)
+                .jsonPath("$.swiftCodes[0].swiftCode").isEqualTo("INGBPLPW002")
+                .jsonPath("$.swiftCodes[0].address").doesNotExist();
+    }
+
+    @Test
+    void testCountryListingUnknownCountry() {
+        webTestClient.get().uri("/v1/swift-codes/country/DE").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testCountryPageAndStream() {
+        webTestClient.get().uri("/v1/swift-codes/country/PL/page?limit=2").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.swiftCodes.length()").isEqualTo(2)
+                .jsonPath("$.nextCursor").isEqualTo("PKOPPLPW001");
+        webTestClient.get().uri("/v1/swift-codes/country/PL/stream").exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .value(body -> org.junit.jupiter.api.Assertions.assertEquals(3, body.split("\n").length));
+    }
+
+    @Test
+    void testLookup() {
+        webTestClient.post().uri("/v1/swift-codes/lookup")
+                .bodyValue(new SwiftCodeLookupRequestDto(Arrays.asList("PKOPPLPW", "INGBPLPW002", "AAAAAAAAXXX", "X")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.results[0].status").isEqualTo("FOUND")
+                .jsonPath("$.results[0].result.branches.length()").isEqualTo(1)
+                .jsonPath("$.results[1].status").isEqualTo("FOUND")
+                .jsonPath("$.results[2].status").isEqualTo("NOT_FOUND")
+                .jsonPath("$.results[3].status").isEqualTo("NOT_ACCEPTABLE");
+    }
+
+    @Test
+    void testCreateAndDelete() {
+        webTestClient.post().uri("/v1/swift-codes")
+                .bodyValue(new BranchDto("ul. 3", "PKO", "PL", "POLAND", false, "PKOPPLPW003"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.message").isEqualTo("Swift code created successfully");
+        webTestClient.post().uri("/v1/swift-codes")
+                .bodyValue(new BranchDto("ul. 3", "PKO", "PL", "POLAND", false, "PKOPPLPW003"))
+                .exchange()
+                .expectStatus().isEqualTo(406);
+        webTestClient.post().uri("/v1/swift-codes")
+                .bodyValue(new BranchDto("ul. 3", "OTHER", "PL", "POLAND", false, "PKOPPLPW004"))
+                .exchange()
+                .expectStatus().isEqualTo(406);
+
+        webTestClient.delete().uri("/v1/swift-codes/PKOPPLPW").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.message").isEqualTo("Delete completed successful. Deleted 3 records");
+        webTestClient.get().uri("/v1/swift-codes/country/PL/page").exchange()
+                .expectStatus().isOk();
+        webTestClient.delete().uri("/v1/swift-codes/INGBPLPW002").exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/v1/swift-codes/country/PL/page").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testCreateMissingDataReturnsBadRequest() {
+        webTestClient.post().uri("/v1/swift-codes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"swiftCode\":\"PKOPPLPW005\",\"bankName\":\"PKO\",\"countryISO2\":\"PL\","
+                        + "\"isHeadquarter\":false}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message")
+                .isEqualTo("countryName: must not be blank");
+    }
+}
@@ -0,0 +1,70 @@
+package integration;
+
+import org.home.exercise.swift.component.SwiftCodeBulkWriter;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers(disabledWithoutDocker = true)
+public class SwiftCodeBulkWriterPostgresIntegrationTest {
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        new ResourceDatabasePopulator(new FileSystemResource("db_scripts/init.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM swift_code");
+    }
+
+    private SwiftCodeEntity entity(String swiftCode, String name) {
+        return new SwiftCodeEntity().setSwiftCode(swiftCode).setName(name).setAddress("ul. 1")
+                .setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(swiftCode.endsWith("XXX"));
+    }
+
+    @Test
+    void testWriteCopiesAllRows() {
+        SwiftCodeBulkWriter writer = new SwiftCodeBulkWriter(jdbcTemplate, false);
+        List<SwiftCodeEntity> inserted = writer.write(List.of(entity("PKOPPLPWXXX", "PKO \"BP\", S.A."),
+                entity("PKOPPLPW001", "PKO")));
+
+        assertEquals(2, inserted.size());
+        assertEquals("PKO \"BP\", S.A.", jdbcTemplate.queryForObject(
+                "SELECT name FROM swift_code WHERE swift_code = 'PKOPPLPWXXX'", String.class));
+        assertEquals("PKOPPLPW", jdbcTemplate.queryForObject(
+                "SELECT bic8 FROM swift_code WHERE swift_code = 'PKOPPLPW001'", String.class));
+    }
+
+    @Test
+    void testWriteSkipsDuplicatesInsteadOfFailingTheBatch() {
+        SwiftCodeBulkWriter writer = new SwiftCodeBulkWriter(jdbcTemplate, false);
+        writer.write(List.of(entity("PKOPPLPW001", "PKO")));
+
+        List<SwiftCodeEntity> inserted = writer.write(List.of(entity("PKOPPLPW001", "PKO"),
+                entity("PKOPPLPW002", "PKO"), entity("PKOPPLPW002", "PKO"), entity("PKOPPLPW003", "PKO")));
+
+        assertEquals(List.of("PKOPPLPW002", "PKOPPLPW003"),
+                inserted.stream().map(SwiftCodeEntity::getSwiftCode).toList());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(1) FROM swift_code", Long.class));
+    }
+}
@@ -0,0 +1,98 @@
+package integration;
+
+import org.home.exercise.swift.component.SwiftCodeChangeLog;
+import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.dto.SwiftCodeChangeDto;
+import org.home.exercise.swift.service.SwiftCodeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = org.home.exercise.swift.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class SwiftCodeChangeFeedIntegrationTest {
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private SwiftCodeService swiftCodeService;
+    @Autowired
+    private SwiftCodeChangeLog changeLog;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testChangesBecomeVisibleInSequenceOrder() throws Exception {
+        long after = changeLog.latestSequenceNumber();
+        CountDownLatch firstAppended = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                changeLog.deleted(List.of("FIRSPLPWXXX"));
+                firstAppended.countDown();
+                await(releaseFirst);
+            }));
+            assertTrue(firstAppended.await(5, TimeUnit.SECONDS));
+            Future<?> second = executor.submit(() -> transactionTemplate.executeWithoutResult(
+                    status -> changeLog.deleted(List.of("SECOPLPWXXX"))));
+            Thread.sleep(200);
+
+            assertEquals(List.of(), changeLog.findAfter(after, 10));
+
+            releaseFirst.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(List.of("FIRSPLPWXXX", "SECOPLPWXXX"),
+                changeLog.findAfter(after, 10).stream().map(SwiftCodeChangeDto::swiftCode).toList());
+    }
+
+    @Test
+    void testStreamSendsBacklogAndNewChangesAsServerSentEvents() throws Exception {
+        long after = changeLog.latestSequenceNumber();
+        swiftCodeService.createSwiftCode(new BranchDto("ul. 1", "MBK", "PL", "POLAND", true, "MBKBPLPWXXX"));
+
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/v1/swift-codes/changes/stream?after=" + after)).build();
+        CompletableFuture<List<String>> events = HttpClient.newHttpClient()
+                .sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                .thenApply(response -> {
+                    try (Stream<String> lines = response.body()) {
+                        return lines.filter(line -> line.startsWith("event:")).limit(3).toList();
+                    }
+                });
+
+        swiftCodeService.createSwiftCode(new BranchDto("ul. 2", "MBK", "PL", "POLAND", false, "MBKBPLPW001"));
+        swiftCodeService.deleteSwiftCode("MBKBPLPW001");
+
+        assertEquals(List.of("event:CREATED", "event:CREATED", "event:DELETED"), events.get(10, TimeUnit.SECONDS));
+        swiftCodeService.deleteSwiftCode("MBKBPLPW");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
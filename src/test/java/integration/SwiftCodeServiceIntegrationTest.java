@@ -1,7 +1,18 @@
 package integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.home.exercise.swift.component.BankDictionary;
+import org.home.exercise.swift.component.CountryDictionary;
+import org.home.exercise.swift.component.SwiftCodeChangeLog;
+import org.home.exercise.swift.component.SwiftCodeWriter;
 import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.dto.SwiftCodeBulkCreateRequestDto;
+import org.home.exercise.swift.dto.SwiftCodeBulkDeleteRequestDto;
+import org.home.exercise.swift.dto.SwiftCodeLookupRequestDto;
+import org.home.exercise.swift.entity.CountryEntity;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.repository.BankRepository;
+import org.home.exercise.swift.repository.CountryRepository;
 import org.home.exercise.swift.repository.SwiftCodeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,11 +22,19 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest(classes = org.home.exercise.swift.Application.class)
 @AutoConfigureMockMvc
@@ -27,11 +46,61 @@ public class SwiftCodeServiceIntegrationTest {
     @Autowired
     private SwiftCodeRepository repository;
     @Autowired
+    private CountryDictionary countryDictionary;
+    @Autowired
+    private BankDictionary bankDictionary;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private BankRepository bankRepository;
+    @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private SwiftCodeChangeLog changeLog;
+    @Autowired
+    private SwiftCodeWriter swiftCodeWriter;
 
     @BeforeEach
     void clearDatabase() {
         repository.deleteAll();
+        countryDictionary.rebuild();
+        bankDictionary.rebuild();
+    }
+
+    @Test
+    void testConcurrentCreatesForNewCountryBothSucceed() throws Exception {
+        List<Future<MvcResult>> creates = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (String swiftCode : List.of("DEUTDEFF001", "COBADEFF001")) {
+                BranchDto dto = new BranchDto("ul. 1", swiftCode.substring(0, 4), "DE", "GERMANY", false, swiftCode);
+                creates.add(executor.submit(() -> mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto))).andReturn()));
+            }
+        }
+        for (Future<MvcResult> create : creates) {
+            assertEquals(201, create.get().getResponse().getStatus());
+        }
+        assertEquals(2, countryRepository.findById("DE").orElseThrow().getCodeCount());
+        assertEquals(2, countryDictionary.find("DE").orElseThrow().getCodeCount());
+    }
+
+    @Test
+    void testConcurrentCreatesForNewBankBothSucceed() throws Exception {
+        List<Future<MvcResult>> creates = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (String swiftCode : List.of("INGBPLPW001", "INGBPLPW002")) {
+                BranchDto dto = new BranchDto("ul. 1", "ING", "PL", "POLAND", false, swiftCode);
+                creates.add(executor.submit(() -> mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto))).andReturn()));
+            }
+        }
+        for (Future<MvcResult> create : creates) {
+            assertEquals(201, create.get().getResponse().getStatus());
+        }
+        assertEquals(2, bankRepository.findById("INGBPLPW").orElseThrow().getCodeCount());
+        assertEquals(2, bankDictionary.find("INGBPLPW").orElseThrow().getCodeCount());
     }
 
     @Test
@@ -190,6 +259,64 @@ public class SwiftCodeServiceIntegrationTest {
                 .andExpect(jsonPath("$.swiftCodes[0].bankName", is("ING")));
     }
 
+    @Test
+    void testGetBanksInCountryPageFollowsCursor() throws Exception {
+        for (String swiftCode : List.of("INGBPLPWXXX", "INGBPLPW001", "INGBPLPW002")) {
+            BranchDto dto = new BranchDto("Mickiewicza 1", "ING", "PL", "POLAND",
+                    swiftCode.endsWith("XXX"), swiftCode);
+            mockMvc.perform(post("/v1/swift-codes")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/v1/swift-codes/country/pl/page").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countryName", is("POLAND")))
+                .andExpect(jsonPath("$.swiftCodes", hasSize(2)))
+                .andExpect(jsonPath("$.swiftCodes[0].swiftCode", is("INGBPLPW001")))
+                .andExpect(jsonPath("$.nextCursor", is("INGBPLPW002")));
+        mockMvc.perform(get("/v1/swift-codes/country/pl/page").param("limit", "2").param("after", "INGBPLPW002"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes", hasSize(1)))
+                .andExpect(jsonPath("$.swiftCodes[0].swiftCode", is("INGBPLPWXXX")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testStreamBanksInCountryWritesNdjson() throws Exception {
+        BranchDto dto = new BranchDto("Mickiewicza 1", "ING", "PL",
+                "POLAND", true, "INGBPLPWXXX");
+        BranchDto dto2 = new BranchDto("Mickiewicza 2", "ING", "PL",
+                "POLAND", false, "INGBPLPWC21");
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto2)))
+                .andExpect(status().isCreated());
+
+        MvcResult result = mockMvc.perform(get("/v1/swift-codes/country/PL/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"swiftCode\":\"INGBPLPWC21\""));
+        assertTrue(lines[1].contains("\"swiftCode\":\"INGBPLPWXXX\""));
+    }
+
+    @Test
+    void testStreamBanksInUnknownCountryReturns404() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/country/ZZ/stream"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testCreateDuplicateSwiftCodeReturnsError() throws Exception {
         BranchDto dto = new BranchDto("ul. 1", "PKO", "PL",
@@ -259,7 +386,7 @@ public class SwiftCodeServiceIntegrationTest {
 
     @Test
     void testCreateSwiftCodeMissingDataReturnsError() throws Exception {
-        BranchDto dto = new BranchDto("ul. 1", null, "PL",
+        BranchDto dto = new BranchDto("ul. 1", "PKO", "PL",
                 "POLAND", false, null);
 
         mockMvc.perform(post("/v1/swift-codes")
@@ -295,6 +422,22 @@ public class SwiftCodeServiceIntegrationTest {
                         containsString("Provided country name doesn't match founded ")));
     }
 
+    @Test
+    void testCreateExistingSwiftCodeWithOtherBankNameReportsExistingRecord() throws Exception {
+        BranchDto dto = new BranchDto("ul. 1", "PKO", "PL", "POLAND", false, "PKOPPLPWCZU");
+        BranchDto duplicate = new BranchDto("ul. 1", "ING", "PL", "POLAND", false, "PKOPPLPWCZU");
+
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(duplicate)))
+                .andExpect(status().isNotAcceptable())
+                .andExpect(jsonPath("$.message", containsString("Record already exist")));
+    }
+
     @Test
     void testCreateSwiftDoesntMatchBankNameInDataFromDbReturnsError() throws Exception {
         BranchDto dto = new BranchDto("ul. 1", "PKO", "PL",
@@ -320,6 +463,222 @@ public class SwiftCodeServiceIntegrationTest {
                         containsString("Provided bank name doesn't match founded ")));
     }
 
+    @Test
+    void testLookupSwiftCodesReturnsResultPerCode() throws Exception {
+        BranchDto hq = new BranchDto("HQ St", "ING", "PL", "POLAND", true, "INGBPLPWXXX");
+        BranchDto branch = new BranchDto("Branch St", "ING", "PL", "POLAND", false, "INGBPLPW001");
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(hq)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(branch)))
+                .andExpect(status().isCreated());
+
+        SwiftCodeLookupRequestDto request = new SwiftCodeLookupRequestDto(
+                List.of("ingbplpw", "INGBPLPW001", "NOSUCHCODEX", "DDD"));
+        mockMvc.perform(post("/v1/swift-codes/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(4)))
+                .andExpect(jsonPath("$.results[0].status", is("FOUND")))
+                .andExpect(jsonPath("$.results[0].result.swiftCode", is("INGBPLPWXXX")))
+                .andExpect(jsonPath("$.results[0].result.branches", hasSize(1)))
+                .andExpect(jsonPath("$.results[1].status", is("FOUND")))
+                .andExpect(jsonPath("$.results[1].result.branches").doesNotExist())
+                .andExpect(jsonPath("$.results[2].status", is("NOT_FOUND")))
+                .andExpect(jsonPath("$.results[3].status", is("NOT_ACCEPTABLE")));
+    }
+
+    @Test
+    void testLookupSwiftCodesRejectsEmptyRequest() throws Exception {
+        mockMvc.perform(post("/v1/swift-codes/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SwiftCodeLookupRequestDto(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testBulkCreateReturnsStatusPerItem() throws Exception {
+        BranchDto existing = new BranchDto("HQ St", "ING", "PL", "POLAND", true, "INGBPLPWXXX");
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(existing)))
+                .andExpect(status().isCreated());
+
+        SwiftCodeBulkCreateRequestDto request = new SwiftCodeBulkCreateRequestDto(List.of(
+                new BranchDto("Branch St", "ING", "PL", "POLAND", false, "INGBPLPW001"),
+                new BranchDto("HQ St", "ING", "PL", "POLAND", true, "INGBPLPWXXX"),
+                new BranchDto("HQ St", "PKO", "PL", "POLAND", true, "PKOPPLPWXXX"),
+                new BranchDto("Branch St", "PKO", "PL", "POLAND", false, "PKOPPLPW001"),
+                new BranchDto("Branch St", "PKO", "PL", "POLAND", false, "PKOPPLPW001"),
+                new BranchDto("Branch St", "ZPO", "PL", "POLAND", false, "PKOPPLPW002"),
+                new BranchDto("Branch St", "ING", "DE", "POLAND", false, "INGBPLPW003"),
+                new BranchDto("Branch St", "ING", "PL", "POLAND", false, "ING")));
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(3)))
+                .andExpect(jsonPath("$.rejected", is(5)))
+                .andExpect(jsonPath("$.results[*].status", contains("CREATED", "NOT_ACCEPTABLE", "CREATED",
+                        "CREATED", "NOT_ACCEPTABLE", "NOT_ACCEPTABLE", "NOT_ACCEPTABLE", "NOT_ACCEPTABLE")))
+                .andExpect(jsonPath("$.results[1].message", containsString("Record already exist")))
+                .andExpect(jsonPath("$.results[4].message", containsString("Record already exist")))
+                .andExpect(jsonPath("$.results[5].message", containsString("Provided bank name doesn't match")))
+                .andExpect(jsonPath("$.results[6].message", containsString("doesn't match extracted from swift code")))
+                .andExpect(jsonPath("$.results[7].message", containsString("Incorrect length")));
+
+        mockMvc.perform(get("/v1/swift-codes/PKOPPLPWXXX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branches", hasSize(1)));
+        assertEquals(4, repository.count());
+        assertEquals(4, countryDictionary.find("PL").orElseThrow().getCodeCount());
+        assertEquals(2, countryDictionary.find("PL").orElseThrow().getHeadquarterCount());
+        assertEquals(2, bankDictionary.find("PKOPPLPW").orElseThrow().getCodeCount());
+        assertEquals(2, bankRepository.findById("INGBPLPW").orElseThrow().getCodeCount());
+    }
+
+    @Test
+    void testBulkCreateRejectsItemWithBlankFieldOnItsOwn() throws Exception {
+        SwiftCodeBulkCreateRequestDto request = new SwiftCodeBulkCreateRequestDto(List.of(
+                new BranchDto("HQ St", "PKO", "PL", "POLAND", true, "PKOPPLPWXXX"),
+                new BranchDto("Branch St", " ", "PL", "", false, "PKOPPLPW001"),
+                new BranchDto("Branch St", "PKO", "PL", "POLAND", false, "PKOPPLPW002")));
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(2)))
+                .andExpect(jsonPath("$.results[*].status", contains("CREATED", "NOT_ACCEPTABLE", "CREATED")))
+                .andExpect(jsonPath("$.results[1].message", containsString("bankName")))
+                .andExpect(jsonPath("$.results[1].message", containsString("countryName")));
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testBulkInsertSkipsConflictingRowWithoutFailingTheBatch() {
+        repository.save(new SwiftCodeEntity().setSwiftCode("PKOPPLPW001").setName("PKO").setAddress("ul. 1")
+                .setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(false));
+        countryDictionary.rebuild();
+        bankDictionary.rebuild();
+
+        List<SwiftCodeEntity> inserted = swiftCodeWriter.insertAll(List.of(
+                new SwiftCodeEntity().setSwiftCode("PKOPPLPW001").setName("PKO").setAddress("ul. 2")
+                        .setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(false),
+                new SwiftCodeEntity().setSwiftCode("PKOPPLPW002").setName("PKO").setAddress("ul. 3")
+                        .setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(false)));
+
+        assertEquals(List.of("PKOPPLPW002"), inserted.stream().map(SwiftCodeEntity::getSwiftCode).toList());
+        assertEquals("ul. 1", repository.findById("PKOPPLPW001").orElseThrow().getAddress());
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testBulkCreateRejectsSecondHeadquarterOfSameBank() throws Exception {
+        SwiftCodeBulkCreateRequestDto request = new SwiftCodeBulkCreateRequestDto(List.of(
+                new BranchDto("HQ St", "PKO", "PL", "POLAND", true, "PKOPPLPWXXX"),
+                new BranchDto("HQ St", "PKO", "PL", "POLAND", true, "PKOPPLPW")));
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.results[1].message", containsString("headquarter for this bank already exist")));
+    }
+
+    @Test
+    void testDeleteChunksAreBoundedByRows() throws Exception {
+        SwiftCodeBulkCreateRequestDto seed = new SwiftCodeBulkCreateRequestDto(List.of(
+                new BranchDto("HQ St", "PKO", "PL", "POLAND", true, "PKOPPLPWXXX"),
+                new BranchDto("Branch St", "PKO", "PL", "POLAND", false, "PKOPPLPW001"),
+                new BranchDto("Branch St", "PKO", "PL", "POLAND", false, "PKOPPLPW002"),
+                new BranchDto("Branch St", "PKO", "PL", "POLAND", false, "PKOPPLPW003"),
+                new BranchDto("Branch St", "PKO", "PL", "POLAND", false, "PKOPPLPW004")));
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(seed)))
+                .andExpect(jsonPath("$.created", is(5)));
+
+        List<Integer> chunks = new ArrayList<>();
+        List<String> deleted = swiftCodeWriter.deleteAll(List.of("PKOPPLPW"), chunk -> chunks.add(chunk.size()));
+
+        assertEquals(List.of(2, 2, 1), chunks);
+        assertEquals(5, deleted.size());
+        assertEquals(0, repository.count());
+        assertTrue(bankDictionary.find("PKOPPLPW").isEmpty());
+        assertTrue(countryDictionary.find("PL").isEmpty());
+    }
+
+    @Test
+    void testBulkDeleteReportsDeletedCountPerCode() throws Exception {
+        SwiftCodeBulkCreateRequestDto seed = new SwiftCodeBulkCreateRequestDto(List.of(
+                new BranchDto("HQ St", "PKO", "PL", "POLAND", true, "PKOPPLPWXXX"),
+                new BranchDto("Branch St", "PKO", "PL", "POLAND", false, "PKOPPLPW001"),
+                new BranchDto("Branch St", "PKO", "PL", "POLAND", false, "PKOPPLPW002"),
+                new BranchDto("HQ St", "ING", "PL", "POLAND", true, "INGBPLPWXXX"),
+                new BranchDto("Branch St", "ING", "PL", "POLAND", false, "INGBPLPW001")));
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(seed)))
+                .andExpect(jsonPath("$.created", is(5)));
+
+        SwiftCodeBulkDeleteRequestDto request = new SwiftCodeBulkDeleteRequestDto(
+                List.of("pkopplpw", "INGBPLPW001", "NOSUCHCODEX", "XYZ", "INGBPLPW001"));
+        mockMvc.perform(post("/v1/swift-codes/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted", is(4)))
+                .andExpect(jsonPath("$.results[*].status", contains("DELETED", "DELETED", "NOT_FOUND",
+                        "NOT_ACCEPTABLE", "NOT_FOUND")))
+                .andExpect(jsonPath("$.results[0].deleted", is(3)))
+                .andExpect(jsonPath("$.results[1].deleted", is(1)));
+
+        assertEquals(List.of("INGBPLPWXXX"), repository.findAll().stream().map(entity -> entity.getSwiftCode()).toList());
+        assertTrue(bankDictionary.find("PKOPPLPW").isEmpty());
+        assertTrue(bankRepository.findById("PKOPPLPW").isEmpty());
+        assertEquals(1, bankDictionary.find("INGBPLPW").orElseThrow().getCodeCount());
+        assertEquals(1, countryRepository.findById("PL").orElseThrow().getCodeCount());
+        assertEquals(1, countryDictionary.find("PL").orElseThrow().getHeadquarterCount());
+        mockMvc.perform(get("/v1/swift-codes/PKOPPLPWXXX"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testChangesListMutationsInOrder() throws Exception {
+        long after = changeLog.latestSequenceNumber();
+        BranchDto hq = new BranchDto("HQ St", "ING", "PL", "POLAND", true, "INGBPLPWXXX");
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(hq)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SwiftCodeBulkCreateRequestDto(List.of(
+                                new BranchDto("Branch St", "ING", "PL", "POLAND", false, "INGBPLPW001"),
+                                new BranchDto("Branch St", "ING", "PL", "POLAND", false, "INGBPLPW002"))))))
+                .andExpect(jsonPath("$.created", is(2)));
+        mockMvc.perform(delete("/v1/swift-codes/INGBPLPW001"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/swift-codes/changes").param("after", String.valueOf(after)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[*].operation", contains("CREATED", "CREATED", "CREATED", "DELETED")))
+                .andExpect(jsonPath("$.changes[*].swiftCode", contains("INGBPLPWXXX", "INGBPLPW001",
+                        "INGBPLPW002", "INGBPLPW001")))
+                .andExpect(jsonPath("$.changes[0].data.bankName", is("ING")))
+                .andExpect(jsonPath("$.changes[1].data").doesNotExist())
+                .andExpect(jsonPath("$.changes[3].data").doesNotExist())
+                .andExpect(jsonPath("$.lastSequenceNumber", is((int) after + 4)));
+
+        mockMvc.perform(get("/v1/swift-codes/changes").param("after", String.valueOf(after + 4)))
+                .andExpect(jsonPath("$.changes", hasSize(0)))
+                .andExpect(jsonPath("$.lastSequenceNumber", is((int) after + 4)));
+    }
+
     @Test
     void testDeleteBranch() throws Exception {
         BranchDto dto = new BranchDto("ul. 1", "PKO", "PL",
@@ -380,6 +739,37 @@ public class SwiftCodeServiceIntegrationTest {
                 .andExpect(jsonPath("$.message", containsString("Deleted 2 records")));
     }
 
+    @Test
+    void testDictionariesFollowCreateAndDelete() throws Exception {
+        for (BranchDto dto : List.of(
+                new BranchDto("ul. 1", "PKO", "PL", "POLAND", true, "PKOPPLPWXXX"),
+                new BranchDto("ul. 2", "PKO", "PL", "POLAND", false, "PKOPPLPW001"),
+                new BranchDto("ul. 3", "ING", "PL", "POLAND", false, "INGBPLPW001"))) {
+            mockMvc.perform(post("/v1/swift-codes")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isCreated());
+        }
+        CountryEntity country = countryRepository.findById("PL").orElseThrow();
+        assertEquals(3, country.getCodeCount());
+        assertEquals(1, country.getHeadquarterCount());
+        assertEquals(3, countryDictionary.find("PL").orElseThrow().getCodeCount());
+        assertEquals(2, bankRepository.findById("PKOPPLPW").orElseThrow().getCodeCount());
+        assertEquals("ING", bankDictionary.find("INGBPLPW").orElseThrow().getName());
+
+        mockMvc.perform(delete("/v1/swift-codes/PKOPPLPW")).andExpect(status().isOk());
+        assertTrue(bankDictionary.find("PKOPPLPW").isEmpty());
+        assertTrue(bankRepository.findById("PKOPPLPW").isEmpty());
+        assertEquals(1, countryDictionary.find("PL").orElseThrow().getCodeCount());
+        assertEquals(0, countryDictionary.find("PL").orElseThrow().getHeadquarterCount());
+
+        mockMvc.perform(delete("/v1/swift-codes/INGBPLPW001")).andExpect(status().isOk());
+        assertTrue(countryDictionary.find("PL").isEmpty());
+        assertTrue(countryRepository.findById("PL").isEmpty());
+        mockMvc.perform(get("/v1/swift-codes/country/PL"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testDeleteNonExistingSwiftCode() throws Exception {
         mockMvc.perform(delete("/v1/swift-codes/DOESNOTEXIS"))
@@ -1,5 +1,18 @@
 package integration;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.home.exercise.swift.component.BankDictionary;
+import org.home.exercise.swift.component.CountryDictionary;
+import org.home.exercise.swift.component.ImportProgress;
+import org.home.exercise.swift.component.SwiftCodeChangeLog;
+import org.home.exercise.swift.component.SwiftCodeIndex;
+import org.home.exercise.swift.dto.ImportDiffSummaryDto;
+import org.home.exercise.swift.dto.SwiftCodeChangeDto;
+import org.home.exercise.swift.entity.BankEntity;
+import org.home.exercise.swift.entity.CountryEntity;
 import org.home.exercise.swift.entity.SwiftCodeEntity;
 import org.home.exercise.swift.repository.SwiftCodeRepository;
 import org.home.exercise.swift.service.SwiftExelLoaderService;
@@ -8,11 +21,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 
 @SpringBootTest(classes = org.home.exercise.swift.Application.class)
 @ActiveProfiles("test")
@@ -23,13 +44,34 @@ public class SwiftExelLoaderServiceIntegrationTest {
     @Autowired
     private SwiftCodeRepository repository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CountryDictionary countryDictionary;
+
+    @Autowired
+    private BankDictionary bankDictionary;
+
+    @Autowired
+    private SwiftCodeChangeLog changeLog;
+
+    @Autowired
+    private ImportProgress importProgress;
+
+    @Autowired
+    private SwiftCodeIndex swiftCodeIndex;
+
     @BeforeEach
     void setUp() {
         repository.deleteAll();
+        countryDictionary.rebuild();
+        bankDictionary.rebuild();
     }
 
     @Test
     void shouldImportValidRowsAndSkipInvalid() {
+        long after = changeLog.latestSequenceNumber();
         loaderService.processExel();
 
         List<SwiftCodeEntity> all = repository.findAll();
@@ -38,6 +80,114 @@ public class SwiftExelLoaderServiceIntegrationTest {
         assertTrue(all.stream().anyMatch(e -> e.getSwiftCode().equals("ADCRBGS1XXX")));
         assertTrue(all.stream().noneMatch(e -> e.getName().equals("ABV INVESTMENTS LTD")));
         assertTrue(all.stream().noneMatch(e -> e.getSwiftCode().equals("AFAAUYM1XXX")));
+        List<SwiftCodeChangeDto> changes = changeLog.findAfter(after, 100);
+        assertEquals(4, changes.size());
+        assertTrue(changes.stream().allMatch(change -> change.operation().equals(SwiftCodeChangeLog.CREATED)));
+        assertEquals(ImportProgress.COMPLETED, importProgress.status());
+        assertTrue(importProgress.isReady());
+        assertTrue(importProgress.totalRows() > 4);
+        assertEquals(importProgress.totalRows(), importProgress.rowsRead());
+        assertEquals(100, importProgress.percentDone());
+    }
+
+    @Test
+    void shouldImportSameRowsWithWorkbookReader() {
+        ReflectionTestUtils.setField(loaderService, "streaming", false);
+        try {
+            loaderService.processExel();
+        } finally {
+            ReflectionTestUtils.setField(loaderService, "streaming", true);
+        }
+        assertEquals(importProgress.totalRows(), importProgress.rowsRead());
+
+        List<SwiftCodeEntity> all = repository.findAll();
+        assertEquals(4, all.size());
+        assertTrue(all.stream().anyMatch(e -> e.getSwiftCode().equals("AAISALTRXXX")));
+        assertTrue(all.stream().anyMatch(e -> e.getSwiftCode().equals("ADCRBGS1XXX")));
+    }
+
+    @Test
+    void shouldImportSameRowsWithPipeline() {
+        ReflectionTestUtils.setField(loaderService, "pipelineEnabled", true);
+        try {
+            loaderService.processExel();
+        } finally {
+            ReflectionTestUtils.setField(loaderService, "pipelineEnabled", false);
+        }
+
+        List<SwiftCodeEntity> all = repository.findAll();
+        assertEquals(4, all.size());
+        assertTrue(all.stream().anyMatch(e -> e.getSwiftCode().equals("AAISALTRXXX")));
+        assertTrue(all.stream().noneMatch(e -> e.getSwiftCode().equals("AFAAUYM1XXX")));
+    }
+
+    @Test
+    void shouldImportSameRowsWithBulkInsert() {
+        ReflectionTestUtils.setField(loaderService, "bulkInsert", true);
+        try {
+            loaderService.processExel();
+        } finally {
+            ReflectionTestUtils.setField(loaderService, "bulkInsert", false);
+        }
+
+        List<SwiftCodeEntity> all = repository.findAll();
+        assertEquals(4, all.size());
+        assertTrue(all.stream().anyMatch(e -> e.getSwiftCode().equals("AAISALTRXXX") && e.getBic8().equals("AAISALTR")));
+        assertTrue(all.stream().noneMatch(e -> e.getSwiftCode().equals("AFAAUYM1XXX")));
+    }
+
+    @Test
+    void shouldInsertImportBatchWithoutSelectBeforeInsert() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<SwiftCodeEntity> batch = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            batch.add(new SwiftCodeEntity().setSwiftCode(String.format("PKOPPLPW%03d", i)).setName("PKO")
+                    .setAddress("ul. 1").setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(false));
+        }
+        statistics.clear();
+
+        repository.saveAll(batch);
+
+        assertEquals(200, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldIssueOneQueryAndOneInsertStatementForImport() {
+        ReflectionTestUtils.setField(loaderService, "countryDictionary", mock(CountryDictionary.class));
+        ReflectionTestUtils.setField(loaderService, "bankDictionary", mock(BankDictionary.class));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        try {
+            loaderService.processExel();
+        } finally {
+            ReflectionTestUtils.setField(loaderService, "countryDictionary", countryDictionary);
+            ReflectionTestUtils.setField(loaderService, "bankDictionary", bankDictionary);
+        }
+
+        assertEquals(4, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldRebuildDictionariesFromImportedRowsWithoutTouchingSwiftCodes() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        loaderService.processExel();
+
+        EntityStatistics swiftCodes = statistics.getEntityStatistics(SwiftCodeEntity.class.getName());
+        EntityStatistics countries = statistics.getEntityStatistics(CountryEntity.class.getName());
+        EntityStatistics banks = statistics.getEntityStatistics(BankEntity.class.getName());
+        assertEquals(4, swiftCodes.getInsertCount());
+        assertEquals(0, swiftCodes.getLoadCount());
+        assertEquals(countryDictionary.size(), countries.getInsertCount());
+        assertEquals(bankDictionary.size(), banks.getInsertCount());
+        assertEquals(4, countryDictionary.size());
+        assertEquals(4, bankDictionary.size());
     }
 
     @Test
@@ -49,4 +199,94 @@ public class SwiftExelLoaderServiceIntegrationTest {
         all = repository.findAll();
         assertEquals(4, all.size());
     }
+
+    @Test
+    void shouldApplyOnlyDifferencesOnDifferentialImport() throws Exception {
+        loaderService.processExel();
+        SwiftCodeEntity changed = repository.findById("AAISALTRXXX").orElseThrow();
+        repository.save(changed.setName("OLD NAME"));
+        repository.deleteById("ADCRBGS1XXX");
+        repository.save(new SwiftCodeEntity().setSwiftCode("PKOPPLPWXXX").setName("PKO").setAddress("ul. 1")
+                .setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(true));
+        long after = changeLog.latestSequenceNumber();
+
+        ImportDiffSummaryDto summary = loaderService.importDifferential();
+
+        assertEquals(1, summary.inserted());
+        assertEquals(1, summary.updated());
+        assertEquals(1, summary.deleted());
+        assertEquals(2, summary.unchanged());
+        List<SwiftCodeEntity> all = repository.findAll();
+        assertEquals(4, all.size());
+        assertTrue(all.stream().anyMatch(e -> e.getSwiftCode().equals("ADCRBGS1XXX")));
+        assertFalse(all.stream().anyMatch(e -> e.getSwiftCode().equals("PKOPPLPWXXX")));
+        assertFalse(all.stream().anyMatch(e -> e.getName().equals("OLD NAME")));
+        List<SwiftCodeChangeDto> changes = changeLog.findAfter(after, 100);
+        assertEquals(3, changes.size());
+        assertTrue(changes.stream().anyMatch(change -> change.operation().equals(SwiftCodeChangeLog.CREATED)
+                && change.swiftCode().equals("ADCRBGS1XXX")));
+        assertTrue(changes.stream().anyMatch(change -> change.operation().equals(SwiftCodeChangeLog.UPDATED)
+                && change.swiftCode().equals("AAISALTRXXX")));
+        assertTrue(changes.stream().anyMatch(change -> change.operation().equals(SwiftCodeChangeLog.DELETED)
+                && change.swiftCode().equals("PKOPPLPWXXX")));
+    }
+
+    @Test
+    void shouldRollBackWholeDifferentialImportWithIndex() {
+        prepareFailingDifferentialImport();
+        ReflectionTestUtils.setField(swiftCodeIndex, "enabled", true);
+        try {
+            swiftCodeIndex.reload();
+            assertThrows(IllegalStateException.class, () -> loaderService.importDifferential());
+            assertTrue(swiftCodeIndex.find("ADCRBGS1XXX").isEmpty());
+            assertTrue(swiftCodeIndex.find("PKOPPLPWXXX").isPresent());
+        } finally {
+            ReflectionTestUtils.setField(swiftCodeIndex, "enabled", false);
+            ReflectionTestUtils.setField(loaderService, "changeLog", changeLog);
+        }
+
+        assertFalse(repository.existsById("ADCRBGS1XXX"));
+        assertTrue(repository.existsById("PKOPPLPWXXX"));
+        assertTrue(bankDictionary.find("ADCRBGS1").isEmpty());
+        assertEquals(ImportProgress.FAILED, importProgress.status());
+    }
+
+    @Test
+    void shouldRollBackWholeDifferentialImportWithoutIndex() {
+        prepareFailingDifferentialImport();
+        try {
+            assertThrows(IllegalStateException.class, () -> loaderService.importDifferential());
+        } finally {
+            ReflectionTestUtils.setField(loaderService, "changeLog", changeLog);
+        }
+
+        assertFalse(repository.existsById("ADCRBGS1XXX"));
+        assertTrue(repository.existsById("PKOPPLPWXXX"));
+        assertTrue(bankDictionary.find("ADCRBGS1").isEmpty());
+        assertEquals(ImportProgress.FAILED, importProgress.status());
+    }
+
+    private void prepareFailingDifferentialImport() {
+        loaderService.processExel();
+        repository.deleteById("ADCRBGS1XXX");
+        repository.save(new SwiftCodeEntity().setSwiftCode("PKOPPLPWXXX").setName("PKO").setAddress("ul. 1")
+                .setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(true));
+        countryDictionary.rebuild();
+        bankDictionary.rebuild();
+        SwiftCodeChangeLog failingChangeLog = spy(changeLog);
+        doThrow(new IllegalStateException("delete failed")).when(failingChangeLog).deleted(anyList());
+        ReflectionTestUtils.setField(loaderService, "changeLog", failingChangeLog);
+    }
+
+    @Test
+    void shouldLeaveTableUntouchedWhenDifferentialImportFindsNoChanges() throws Exception {
+        loaderService.processExel();
+        long after = changeLog.latestSequenceNumber();
+
+        ImportDiffSummaryDto summary = loaderService.importDifferential();
+
+        assertEquals(0, summary.inserted() + summary.updated() + summary.deleted());
+        assertEquals(4, summary.unchanged());
+        assertTrue(changeLog.findAfter(after, 100).isEmpty());
+    }
 }
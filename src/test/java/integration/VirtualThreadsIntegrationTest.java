@@ -0,0 +1,64 @@
+package integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.home.exercise.swift.component.BankDictionary;
+import org.home.exercise.swift.component.CountryDictionary;
+import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.dto.HeadquarterResponseDto;
+import org.home.exercise.swift.repository.SwiftCodeRepository;
+import org.home.exercise.swift.service.SwiftCodeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@SpringBootTest(classes = org.home.exercise.swift.Application.class,
+        properties = "swift.datasource.limit.max-concurrency=2")
+@ActiveProfiles({"test", "virtual"})
+public class VirtualThreadsIntegrationTest {
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private SwiftCodeService swiftCodeService;
+    @Autowired
+    private SwiftCodeRepository repository;
+    @Autowired
+    private CountryDictionary countryDictionary;
+    @Autowired
+    private BankDictionary bankDictionary;
+
+    @Test
+    void testHikariPoolIsLimitedInVirtualMode() {
+        HikariDataSource hikariDataSource = assertInstanceOf(HikariDataSource.class, dataSource);
+        assertEquals(2, hikariDataSource.getMaximumPoolSize());
+        assertEquals(5000, hikariDataSource.getConnectionTimeout());
+    }
+
+    @Test
+    void testManyConcurrentLookupsShareLimitedConnections() throws Exception {
+        repository.deleteAll();
+        countryDictionary.rebuild();
+        bankDictionary.rebuild();
+        swiftCodeService.createSwiftCode(new BranchDto("ul. 1", "PKO", "PL", "POLAND", true, "PKOPPLPWXXX"));
+
+        List<Future<?>> lookups = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 500; i++) {
+                lookups.add(executor.submit(() -> swiftCodeService.getSwiftBySwiftCode("PKOPPLPWXXX")));
+            }
+        }
+        for (Future<?> lookup : lookups) {
+            assertEquals("PKOPPLPWXXX", ((HeadquarterResponseDto) lookup.get()).swiftCode());
+        }
+    }
+}
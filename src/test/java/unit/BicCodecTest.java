@@ -0,0 +1,50 @@
+package unit;
+
+import org.home.exercise.swift.utils.BicCodec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BicCodecTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        assertEquals("PKOPPLPWXXX", BicCodec.decode(BicCodec.encode("PKOPPLPWXXX")));
+        assertEquals("ZZZZZZZZZZZ", BicCodec.decode(BicCodec.encode("ZZZZZZZZZZZ")));
+        assertEquals("00000000000", BicCodec.decode(BicCodec.encode("00000000000")));
+        assertEquals("PKOPPLPW", BicCodec.decode(BicCodec.encode("PKOPPLPW")));
+    }
+
+    @Test
+    void testEncodeAcceptsOnlyUppercaseLettersAndAsciiDigits() {
+        assertEquals(BicCodec.INVALID, BicCodec.encode("pkopplpw001"));
+        assertEquals(BicCodec.INVALID, BicCodec.encode("PKOPPLPW00\u0661"));
+        assertEquals(BicCodec.INVALID, BicCodec.encodeBic8("PKOPPLP\uFF37"));
+    }
+
+    @Test
+    void testBic8AndBic11AreDistinctKeys() {
+        assertNotEquals(BicCodec.encode("PKOPPLPW"), BicCodec.encode("PKOPPLPWXXX"));
+    }
+
+    @Test
+    void testBic8OfMatchesEncodedPrefix() {
+        long bic8 = BicCodec.encodeBic8("PKOPPLPW");
+        assertEquals(bic8, BicCodec.bic8Of(BicCodec.encode("PKOPPLPW001")));
+        assertEquals(bic8, BicCodec.bic8Of(BicCodec.encode("PKOPPLPWXXX")));
+        assertEquals(bic8, BicCodec.bic8Of(BicCodec.encode("PKOPPLPW")));
+    }
+
+    @Test
+    void testOrderFollowsStringOrderForCodesOfTheSameLength() {
+        assertTrue(BicCodec.encode("AAAAPLPW001") < BicCodec.encode("AAAAPLPWXXX"));
+        assertTrue(BicCodec.encode("AAAAPLPWXXX") < BicCodec.encode("BAAAPLPW000"));
+    }
+
+    @Test
+    void testInvalidCodes() {
+        assertEquals(BicCodec.INVALID, BicCodec.encode("PKOP"));
+        assertEquals(BicCodec.INVALID, BicCodec.encode("PKOP-LPWXXX"));
+        assertEquals(BicCodec.INVALID, BicCodec.encodeBic8("PKO"));
+    }
+}
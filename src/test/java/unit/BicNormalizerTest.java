@@ -0,0 +1,25 @@
+package unit;
+
+import org.home.exercise.swift.utils.BicNormalizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BicNormalizerTest {
+
+    @Test
+    void testToBic11FromBic8() {
+        assertEquals("BCHICLR1XXX", BicNormalizer.toBic11("bchiclr1"));
+    }
+
+    @Test
+    void testToBic11KeepsBranchCode() {
+        assertEquals("BCHICLR10R2", BicNormalizer.toBic11("BCHICLR10r2"));
+    }
+
+    @Test
+    void testToBic8() {
+        assertEquals("BCHICLR1", BicNormalizer.toBic8("BCHICLR10R2"));
+        assertEquals("BCHICLR1", BicNormalizer.toBic8("BCHICLR1"));
+    }
+}
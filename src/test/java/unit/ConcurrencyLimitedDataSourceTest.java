@@ -0,0 +1,62 @@
+package unit;
+
+import org.home.exercise.swift.component.ConcurrencyLimitedDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ConcurrencyLimitedDataSourceTest {
+    private final DataSource target = mock(DataSource.class);
+    private final ConcurrencyLimitedDataSource dataSource =
+            new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+
+    @Test
+    void testRejectsConnectionAboveLimitUntilOneIsClosed() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        first.close();
+        assertNotNull(dataSource.getConnection());
+    }
+
+    @Test
+    void testClosingTwiceReleasesOnePermit() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        first.close();
+        first.close();
+        dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    void testFailedConnectionReleasesPermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("down"));
+
+        for (int i = 0; i < 3; i++) {
+            SQLException exception = assertThrows(SQLException.class, dataSource::getConnection);
+            assertEquals("down", exception.getMessage());
+        }
+    }
+
+    @Test
+    void testDelegatesCallsToConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(target.getConnection()).thenReturn(connection);
+
+        assertTrue(dataSource.getConnection().getAutoCommit());
+    }
+}
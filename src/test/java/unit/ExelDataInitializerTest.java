@@ -0,0 +1,69 @@
+package unit;
+
+import org.home.exercise.swift.component.ExelDataInitializer;
+import org.home.exercise.swift.component.ImportProgress;
+import org.home.exercise.swift.service.SwiftExelLoaderService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class ExelDataInitializerTest {
+    private final SwiftExelLoaderService loaderService = mock(SwiftExelLoaderService.class);
+    private final ImportProgress importProgress = new ImportProgress();
+    private final ExelDataInitializer initializer = new ExelDataInitializer(loaderService, importProgress,
+            Duration.ofMillis(50), Duration.ofMillis(100));
+
+    @Test
+    void testRetriesUntilImportCompletes() {
+        doThrow(new IllegalStateException("database down"))
+                .doNothing()
+                .doAnswer(invocation -> {
+                    importProgress.started();
+                    importProgress.finished(true);
+                    return null;
+                })
+                .when(loaderService).processExel();
+        initializer.init();
+        try {
+            verify(loaderService, timeout(5000).times(3)).processExel();
+            verify(loaderService, after(300).times(3)).processExel();
+        } finally {
+            initializer.shutdown();
+        }
+        assertTrue(importProgress.isReady());
+    }
+
+    @Test
+    void testRecordsFailureWhenImportThrows() {
+        doThrow(new IllegalStateException("database down")).when(loaderService).processExel();
+        initializer.init();
+        try {
+            verify(loaderService, timeout(5000).atLeast(2)).processExel();
+            assertEquals(ImportProgress.FAILED, importProgress.status());
+            assertFalse(importProgress.isReady());
+        } finally {
+            initializer.shutdown();
+        }
+    }
+
+    @Test
+    void testDoesNotRetryWhenImportIsSkipped() throws Exception {
+        doAnswer(invocation -> {
+            importProgress.skipped();
+            return null;
+        }).when(loaderService).processExel();
+        initializer.init();
+        try {
+            verify(loaderService, timeout(5000)).processExel();
+            Thread.sleep(300);
+            verify(loaderService, times(1)).processExel();
+        } finally {
+            initializer.shutdown();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package unit;
+
+import org.home.exercise.swift.component.ExelFileWatcher;
+import org.home.exercise.swift.service.SwiftExelLoaderService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+public class ExelFileWatcherTest {
+    private final SwiftExelLoaderService loaderService = mock(SwiftExelLoaderService.class);
+
+    @TempDir
+    Path directory;
+
+    private ExelFileWatcher watcher(Path file, boolean enabled) {
+        return new ExelFileWatcher(loaderService, new DefaultResourceLoader(), file.toUri().toString(), enabled,
+                Duration.ofMillis(100));
+    }
+
+    @Test
+    void testReloadsOnceWhenWatchedFileChanges() throws Exception {
+        Path file = Files.writeString(directory.resolve("codes.xlsx"), "v1");
+        ExelFileWatcher watcher = watcher(file, true);
+        watcher.start();
+        try {
+            Files.writeString(directory.resolve("other.txt"), "ignored");
+            Files.writeString(file, "v2");
+            Files.writeString(file, "v3");
+            verify(loaderService, timeout(5000)).importDifferential();
+            Thread.sleep(300);
+            verify(loaderService, times(1)).importDifferential();
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    void testDoesNothingWhenDisabled() throws Exception {
+        Path file = Files.writeString(directory.resolve("codes.xlsx"), "v1");
+        ExelFileWatcher watcher = watcher(file, false);
+        watcher.start();
+        Files.writeString(file, "v2");
+        Thread.sleep(300);
+        watcher.stop();
+        verifyNoInteractions(loaderService);
+    }
+}
@@ -0,0 +1,72 @@
+package unit;
+
+import org.home.exercise.swift.component.ImportHealthIndicator;
+import org.home.exercise.swift.component.ImportProgress;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ImportHealthIndicatorTest {
+    private final ImportProgress importProgress = new ImportProgress();
+    private final ImportHealthIndicator healthIndicator = new ImportHealthIndicator(importProgress);
+
+    @Test
+    void testDownUntilFirstImportCompletes() {
+        assertEquals(Status.DOWN, healthIndicator.health().getStatus());
+
+        importProgress.started();
+        importProgress.totalRows(4);
+        importProgress.rowRead();
+        Health running = healthIndicator.health();
+        assertEquals(Status.DOWN, running.getStatus());
+        assertEquals(ImportProgress.RUNNING, running.getDetails().get("status"));
+        assertEquals(25.0, running.getDetails().get("percentDone"));
+        assertEquals(1L, running.getDetails().get("rowsRead"));
+
+        importProgress.finished(true);
+        Health completed = healthIndicator.health();
+        assertEquals(Status.UP, completed.getStatus());
+        assertEquals(100.0, completed.getDetails().get("percentDone"));
+    }
+
+    @Test
+    void testFailedImportKeepsIndicatorDown() {
+        importProgress.started();
+        importProgress.finished(false);
+
+        Health health = healthIndicator.health();
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals(ImportProgress.FAILED, health.getDetails().get("status"));
+    }
+
+    @Test
+    void testSkippedImportIsReady() {
+        importProgress.skipped();
+
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+    }
+
+    @Test
+    void testReimportAfterFirstImportStaysUp() {
+        importProgress.started();
+        importProgress.finished(true);
+        importProgress.started();
+
+        Health health = healthIndicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(ImportProgress.RUNNING, health.getDetails().get("status"));
+    }
+
+    @Test
+    void testFailedImportOverExistingDataIsUp() {
+        importProgress.started();
+        importProgress.finished(false);
+        importProgress.dataAvailable();
+
+        Health health = healthIndicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(ImportProgress.FAILED, health.getDetails().get("status"));
+    }
+}
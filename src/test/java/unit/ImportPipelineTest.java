@@ -0,0 +1,88 @@
+package unit;
+
+import org.home.exercise.swift.component.ImportPipeline;
+import org.home.exercise.swift.dto.ExelRowDto;
+import org.home.exercise.swift.dto.ImportSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImportPipelineTest {
+    private final ImportPipeline pipeline = new ImportPipeline(3, 2, 2);
+
+    private ImportPipeline.RowSource rows(int count) {
+        return consumer -> {
+            for (int i = 1; i <= count; i++) {
+                consumer.accept(new ExelRowDto(i, "PL", i % 10 == 0 ? null : String.format("PKOPPLPW%03d", i % 1000),
+                        "PKO", "ul. 1", "POLAND"));
+            }
+        };
+    }
+
+    @Test
+    void testAllValidRowsAreWrittenInBatches() throws Exception {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        ImportSummaryDto summary = pipeline.run(rows(5000), ExelRowDto::swiftCode, batch -> {
+            batchSizes.add(batch.size());
+            written.addAll(batch);
+            return batch.size();
+        }, 200);
+        assertEquals(4500, summary.imported());
+        assertEquals(500, summary.skipped());
+        assertEquals(4500, written.size());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 200));
+    }
+
+    @Test
+    void testWriterFailureAbortsImport() {
+        ExecutionException ex = assertThrows(ExecutionException.class, () ->
+                pipeline.run(rows(5000), ExelRowDto::swiftCode, batch -> {
+                    throw new IllegalStateException("database unavailable");
+                }, 100));
+        assertEquals("database unavailable", ex.getCause().getMessage());
+    }
+
+    @Test
+    void testSourceFailureIsPropagated() {
+        assertThrows(IllegalArgumentException.class, () ->
+                pipeline.run(consumer -> {
+                    throw new IllegalArgumentException("broken file");
+                }, ExelRowDto::swiftCode, List::size, 100));
+    }
+
+    @Test
+    void testImportedCountsRowsReportedByWriter() throws Exception {
+        ImportSummaryDto summary = pipeline.run(rows(5000), ExelRowDto::swiftCode,
+                batch -> (int) batch.stream().filter(code -> code.endsWith("1")).count(), 100);
+        assertEquals(500, summary.imported());
+        assertEquals(500, summary.skipped());
+    }
+
+    @Test
+    void testFailureWaitsForRunningWritersBeforeThrowing() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        assertThrows(ExecutionException.class, () ->
+                pipeline.run(rows(5000), ExelRowDto::swiftCode, batch -> {
+                    if (calls.incrementAndGet() == 1) {
+                        throw new IllegalStateException("database unavailable");
+                    }
+                    running.incrementAndGet();
+                    long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+                    while (System.nanoTime() < until) {
+                        Thread.onSpinWait();
+                    }
+                    running.decrementAndGet();
+                    return batch.size();
+                }, 100));
+        assertEquals(0, running.get());
+    }
+}
@@ -0,0 +1,51 @@
+package unit;
+
+import org.home.exercise.swift.utils.LongIntHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongIntHashMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        assertEquals(LongIntHashMap.MISSING, map.put(10L, 1));
+        assertEquals(1, map.put(10L, 2));
+        assertEquals(2, map.get(10L));
+        assertEquals(LongIntHashMap.MISSING, map.get(11L));
+        assertEquals(2, map.remove(10L));
+        assertEquals(LongIntHashMap.MISSING, map.remove(10L));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void testRejectsNegativeKeys() {
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(4).put(-1L, 0));
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomOperations() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.remove(key));
+                expected.remove(key);
+            } else {
+                assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.put(key, i));
+                expected.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.get(key));
+        }
+    }
+}
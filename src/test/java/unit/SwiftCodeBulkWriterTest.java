@@ -0,0 +1,25 @@
+package unit;
+
+import org.home.exercise.swift.component.SwiftCodeBulkWriter;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SwiftCodeBulkWriterTest {
+
+    @Test
+    void testToCsvQuotesValuesAndWritesNullAsEmpty() {
+        SwiftCodeEntity headquarter = new SwiftCodeEntity().setSwiftCode("PKOPPLPWXXX").setName("PKO \"BP\", S.A.")
+                .setAddress("ul. Puławska 15").setCountryISO2("pl").setCountryName("Poland").setHeadquarter(true);
+        SwiftCodeEntity branch = new SwiftCodeEntity().setSwiftCode("PKOPPLPW001").setName("PKO")
+                .setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(false);
+
+        String csv = SwiftCodeBulkWriter.toCsv(List.of(headquarter, branch));
+
+        assertEquals("\"PKOPPLPWXXX\",\"PKOPPLPW\",\"PL\",\"PKO \"\"BP\"\", S.A.\",\"ul. Puławska 15\",\"POLAND\",true\n" +
+                "\"PKOPPLPW001\",\"PKOPPLPW\",\"PL\",\"PKO\",,\"POLAND\",false\n", csv);
+    }
+}
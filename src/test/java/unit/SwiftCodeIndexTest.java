@@ -0,0 +1,258 @@
+package unit;
+
+import org.home.exercise.swift.component.SwiftCodeChangeLog;
+import org.home.exercise.swift.component.SwiftCodeIndex;
+import org.home.exercise.swift.dto.BranchListItemDto;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.repository.SwiftCodeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SwiftCodeIndexTest {
+    private final SwiftCodeRepository repository = mock(SwiftCodeRepository.class);
+    private final SwiftCodeChangeLog changeLog = mock(SwiftCodeChangeLog.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @TempDir
+    Path directory;
+
+    private SwiftCodeEntity entity(String swiftCode) {
+        return new SwiftCodeEntity().setSwiftCode(swiftCode).setName("PKO").setAddress("ul. 1")
+                .setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(swiftCode.endsWith("XXX"));
+    }
+
+    @Test
+    void testReloadLoadsAllRecords() {
+        when(repository.findAll()).thenReturn(List.of(entity("PKOPPLPWXXX"), entity("PKOPPLPW001")));
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, null);
+        index.reload();
+        assertEquals(2, index.size());
+        assertTrue(index.find("PKOPPLPW001").isPresent());
+        assertTrue(index.find("PKOPPLPW002").isEmpty());
+    }
+
+    @Test
+    void testWritesInsideTransactionAreAppliedOnlyAfterCommit() {
+        when(repository.findAll()).thenReturn(List.of(entity("PKOPPLPWXXX")));
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, null);
+        index.reload();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.put(entity("PKOPPLPW001"));
+            index.remove("PKOPPLPWXXX");
+            assertTrue(index.find("PKOPPLPW001").isEmpty());
+            assertTrue(index.find("PKOPPLPWXXX").isPresent());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertTrue(index.find("PKOPPLPW001").isPresent());
+        assertTrue(index.find("PKOPPLPWXXX").isEmpty());
+    }
+
+    @Test
+    void testReloadReadsSequenceNumberAndRowsInOneRepeatableReadTransaction() {
+        when(repository.findAll()).thenReturn(List.of(entity("PKOPPLPWXXX")));
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, null);
+        index.reload();
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+                && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_REPEATABLE_READ));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testReloadPublishesNewSnapshotWithoutTouchingTheOldOne() {
+        when(repository.findAll()).thenReturn(List.of(entity("PKOPPLPWXXX"), entity("PKOPPLPW001")))
+                .thenReturn(List.of(entity("PKOPPLPWXXX")));
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, null);
+        index.reload();
+        SwiftCodeIndex.Snapshot before = index.snapshot();
+        index.reload();
+        assertNotSame(before, index.snapshot());
+        assertTrue(before.find("PKOPPLPW001").isPresent());
+        assertEquals(1, before.findBranches("PKOPPLPW").size());
+        assertTrue(index.find("PKOPPLPW001").isEmpty());
+        assertTrue(index.findBranches("PKOPPLPW").isEmpty());
+    }
+
+    @Test
+    void testWritesDuringReloadAreAppliedToNewSnapshot() {
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, null);
+        index.put(entity("PKOPPLPW002"));
+        when(repository.findAll()).thenAnswer(invocation -> {
+            index.put(entity("PKOPPLPW001"));
+            index.remove("PKOPPLPWXXX");
+            return List.of(entity("PKOPPLPWXXX"));
+        });
+        index.reload();
+        assertTrue(index.find("PKOPPLPW001").isPresent());
+        assertTrue(index.find("PKOPPLPWXXX").isEmpty());
+        assertTrue(index.find("PKOPPLPW002").isEmpty());
+        index.put(entity("PKOPPLPW003"));
+        assertTrue(index.find("PKOPPLPW003").isPresent());
+    }
+
+    @Test
+    void testPutAndRemove() {
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, null);
+        index.put(entity("PKOPPLPWXXX"));
+        index.put(entity("PKOPPLPW001"));
+        index.put(entity("INGBPLPWXXX"));
+        index.remove("PKOPPLPW001");
+        assertTrue(index.find("PKOPPLPW001").isEmpty());
+        index.removeByBic8("PKOPPLPW");
+        assertTrue(index.find("PKOPPLPWXXX").isEmpty());
+        assertTrue(index.find("INGBPLPWXXX").isPresent());
+    }
+
+    @Test
+    void testReadsStayConsistentWhileWritesResizeTheIndex() throws Exception {
+        when(repository.findAll()).thenReturn(List.of(entity("PKOPPLPWXXX")));
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, null);
+        index.reload();
+        Thread writer = new Thread(() -> {
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < 10_000; i++) {
+                    index.put(entity(String.format("BNK%1dPLPW%03d", i / 1000, i % 1000)));
+                }
+                index.reload();
+            }
+        });
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        writer.start();
+        try {
+            List<Future<?>> reads = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                reads.add(readers.submit(() -> {
+                    while (writer.isAlive()) {
+                        assertTrue(index.find("PKOPPLPWXXX").isPresent());
+                        index.find("BNK1PLPW001");
+                        index.findBranches("BNK1PLPW");
+                    }
+                }));
+            }
+            for (Future<?> read : reads) {
+                read.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            writer.join();
+            readers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFindBranchesReturnsOnlyBranchesOfBank() {
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, null);
+        index.put(entity("PKOPPLPWXXX"));
+        index.put(entity("PKOPPLPW001"));
+        index.put(entity("PKOPPLPW002"));
+        index.put(entity("PKOPPLPXXXX"));
+        List<BranchListItemDto> branches = index.findBranches("PKOPPLPW");
+        assertEquals(2, branches.size());
+        assertTrue(branches.stream().noneMatch(BranchListItemDto::isHeadquarter));
+        index.remove("PKOPPLPW001");
+        assertEquals(1, index.findBranches("PKOPPLPW").size());
+        assertTrue(index.findBranches("INGBPLPW").isEmpty());
+    }
+
+    @Test
+    void testDisabledIndexIgnoresUpdates() {
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, false, null);
+        index.onApplicationReady();
+        index.put(entity("PKOPPLPWXXX"));
+        assertFalse(index.isEnabled());
+        assertEquals(0, index.size());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testSlotsAreReusedAfterRemoval() {
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, null);
+        for (int i = 0; i < 3000; i++) {
+            index.put(entity(String.format("BANKPLPW%03d", i % 1000)));
+            index.put(entity(String.format("BNK%1dPLPWXXX", i % 10)));
+        }
+        assertEquals(1010, index.size());
+        index.remove("BANKPLPW500");
+        index.removeByBic8("BNK1PLPW");
+        assertEquals(1008, index.size());
+        assertEquals(999, index.findBranches("BANKPLPW").size());
+        index.put(entity("BANKPLPW500"));
+        assertEquals("BANKPLPW500", index.find("BANKPLPW500").orElseThrow().swiftCode());
+        assertTrue(index.find("BANKPLPW001").isPresent());
+        assertTrue(index.find("bankplpw001").isEmpty());
+        assertTrue(index.find("BANK-LPW001").isEmpty());
+    }
+
+    @Test
+    void testStartupMapsSnapshotFileWrittenByReload() {
+        Path file = directory.resolve("index.bin");
+        when(changeLog.latestSequenceNumber()).thenReturn(7L);
+        when(repository.findAll()).thenReturn(List.of(entity("PKOPPLPWXXX"), entity("PKOPPLPW001")));
+        new SwiftCodeIndex(repository, changeLog, transactionManager, true, file.toString()).reload();
+        assertTrue(Files.exists(file));
+
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, file.toString());
+        index.onApplicationReady();
+
+        verify(repository, times(1)).findAll();
+        assertEquals(2, index.size());
+        assertEquals("PKO", index.find("PKOPPLPW001").orElseThrow().bankName());
+        assertEquals(1, index.findBranches("PKOPPLPW").size());
+    }
+
+    @Test
+    void testWritesOnMappedSnapshotOverlayTheFile() {
+        Path file = directory.resolve("index.bin");
+        when(repository.findAll()).thenReturn(List.of(entity("PKOPPLPWXXX"), entity("PKOPPLPW001"),
+                entity("PKOPPLPW002"), entity("INGBPLPWXXX")));
+        new SwiftCodeIndex(repository, changeLog, transactionManager, true, file.toString()).reload();
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, file.toString());
+        index.onApplicationReady();
+
+        index.put(entity("PKOPPLPW003"));
+        index.put(entity("PKOPPLPW001").setName("PKO BP"));
+        index.remove("PKOPPLPW002");
+        assertEquals(4, index.size());
+        assertEquals("PKO BP", index.find("PKOPPLPW001").orElseThrow().bankName());
+        assertTrue(index.find("PKOPPLPW002").isEmpty());
+        assertEquals(2, index.findBranches("PKOPPLPW").size());
+
+        index.removeByBic8("PKOPPLPW");
+        assertEquals(1, index.size());
+        assertTrue(index.find("PKOPPLPWXXX").isEmpty());
+        assertTrue(index.findBranches("PKOPPLPW").isEmpty());
+        assertTrue(index.find("INGBPLPWXXX").isPresent());
+    }
+
+    @Test
+    void testStaleSnapshotFileFallsBackToDatabase() {
+        Path file = directory.resolve("index.bin");
+        when(changeLog.latestSequenceNumber()).thenReturn(7L, 8L, 8L);
+        when(repository.findAll()).thenReturn(List.of(entity("PKOPPLPWXXX")))
+                .thenReturn(List.of(entity("PKOPPLPWXXX"), entity("PKOPPLPW001")));
+        new SwiftCodeIndex(repository, changeLog, transactionManager, true, file.toString()).reload();
+
+        SwiftCodeIndex index = new SwiftCodeIndex(repository, changeLog, transactionManager, true, file.toString());
+        index.onApplicationReady();
+
+        verify(repository, times(2)).findAll();
+        assertTrue(index.find("PKOPPLPW001").isPresent());
+    }
+}
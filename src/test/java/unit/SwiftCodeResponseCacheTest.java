@@ -0,0 +1,109 @@
+package unit;
+
+import org.home.exercise.swift.component.SwiftCodeResponseCache;
+import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.dto.Iso2ResponseDto;
+import org.home.exercise.swift.dto.SwiftCodeResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwiftCodeResponseCacheTest {
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SwiftCodeResponseCache cache(boolean enabled) {
+        return new SwiftCodeResponseCache(enabled, 100, Duration.ofMinutes(10), enabled, 10, Duration.ofMinutes(10));
+    }
+
+    private final Function<String, SwiftCodeResponse> swiftLoader = swiftCode -> {
+        loads.incrementAndGet();
+        return new BranchDto("ul. 1", "PKO", "PL", "POLAND", swiftCode.endsWith("XXX"), swiftCode);
+    };
+
+    private final Function<String, Iso2ResponseDto> countryLoader = iso2 -> {
+        loads.incrementAndGet();
+        return new Iso2ResponseDto(iso2, "POLAND", List.of());
+    };
+
+    @Test
+    void testDisabledCacheAlwaysCallsLoader() {
+        SwiftCodeResponseCache cache = cache(false);
+        cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+        cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+        cache.getCountry("PL", countryLoader);
+        cache.getCountry("PL", countryLoader);
+        assertEquals(4, loads.get());
+        assertEquals(0, cache.lookupStats().requestCount());
+    }
+
+    @Test
+    void testRepeatedLookupIsServedFromCache() {
+        SwiftCodeResponseCache cache = cache(true);
+        SwiftCodeResponse first = cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+        SwiftCodeResponse second = cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.lookupStats().hitCount());
+        assertEquals(1, cache.lookupStats().missCount());
+    }
+
+    @Test
+    void testInvalidateBranchEvictsBranchHeadquarterAndCountry() {
+        SwiftCodeResponseCache cache = cache(true);
+        cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+        cache.getSwiftCode("PKOPPLPWXXX", swiftLoader);
+        cache.getSwiftCode("PKOPPLPW002", swiftLoader);
+        cache.getCountry("PL", countryLoader);
+        cache.getCountry("DE", countryLoader);
+
+        cache.invalidateSwiftCode("PKOPPLPW001");
+        loads.set(0);
+        cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+        cache.getSwiftCode("PKOPPLPWXXX", swiftLoader);
+        cache.getCountry("PL", countryLoader);
+        assertEquals(3, loads.get());
+
+        cache.getSwiftCode("PKOPPLPW002", swiftLoader);
+        cache.getCountry("DE", countryLoader);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testInvalidateBankEvictsAllCodesOfBank() {
+        SwiftCodeResponseCache cache = cache(true);
+        cache.getSwiftCode("PKOPPLPWXXX", swiftLoader);
+        cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+        cache.getSwiftCode("INGBPLPWXXX", swiftLoader);
+
+        cache.invalidateBank("PKOPPLPW");
+        loads.set(0);
+        cache.getSwiftCode("PKOPPLPWXXX", swiftLoader);
+        cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+        cache.getSwiftCode("INGBPLPWXXX", swiftLoader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidationInTransactionWaitsForCommit() {
+        SwiftCodeResponseCache cache = cache(true);
+        cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateSwiftCode("PKOPPLPW001");
+            cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+            assertEquals(1, loads.get());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.getSwiftCode("PKOPPLPW001", swiftLoader);
+        assertEquals(2, loads.get());
+    }
+}
@@ -1,22 +1,39 @@
 package unit;
 
+import org.home.exercise.swift.component.BankDictionary;
+import org.home.exercise.swift.component.CountryDictionary;
+import org.home.exercise.swift.component.SwiftCodeIndex;
+import org.home.exercise.swift.component.SwiftCodeResponseCache;
 import org.home.exercise.swift.component.SwiftCodeValidator;
+import org.home.exercise.swift.component.SwiftCodeWriter;
+import org.home.exercise.swift.component.SwiftMetrics;
 import org.home.exercise.swift.dto.*;
+import org.home.exercise.swift.entity.BankEntity;
+import org.home.exercise.swift.entity.CountryEntity;
 import org.home.exercise.swift.entity.SwiftCodeEntity;
 import org.home.exercise.swift.exception.FieldMismatchException;
 import org.home.exercise.swift.exception.HeadquarterAlreadyExistException;
 import org.home.exercise.swift.exception.NotFoundException;
 import org.home.exercise.swift.exception.RecordAlreadyExistException;
+import org.home.exercise.swift.exception.ValidationException;
 import org.home.exercise.swift.repository.SwiftCodeRepository;
 import org.home.exercise.swift.service.SwiftCodeService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,6 +44,21 @@ public class SwiftCodeServiceTest {
     private SwiftCodeRepository repository;
     @Mock
     private SwiftCodeValidator validator;
+    @Mock
+    private SwiftCodeIndex swiftCodeIndex;
+    @Mock
+    private SwiftCodeIndex.Snapshot snapshot;
+    @Spy
+    private SwiftCodeResponseCache responseCache = new SwiftCodeResponseCache(
+            false, 0, Duration.ZERO, false, 0, Duration.ZERO);
+    @Mock
+    private SwiftMetrics swiftMetrics;
+    @Mock
+    private CountryDictionary countryDictionary;
+    @Mock
+    private BankDictionary bankDictionary;
+    @Mock
+    private SwiftCodeWriter swiftCodeWriter;
     @InjectMocks
     private SwiftCodeService swiftCodeService;
 
@@ -39,7 +71,9 @@ public class SwiftCodeServiceTest {
         List<BranchListItemDto> branches = List.of();
         when(repository.findById(swiftCode)).thenReturn(Optional.of(entity));
         when(repository.findBranchesRelatedToHeadquarter("PKOPPLPW")).thenReturn(branches);
-        when(entity.toHeadquarter(branches)).thenReturn(dto);
+        BranchDto headquarter = mock(BranchDto.class);
+        when(entity.toSingleBranch()).thenReturn(headquarter);
+        when(headquarter.toHeadquarter(branches)).thenReturn(dto);
         var result = swiftCodeService.getSwiftBySwiftCode(swiftCode);
         assertEquals(dto, result);
         verify(repository).findById(swiftCode);
@@ -55,7 +89,9 @@ public class SwiftCodeServiceTest {
         List<BranchListItemDto> branches = List.of();
         when(repository.findById(expectedBic11)).thenReturn(Optional.of(entity));
         when(repository.findBranchesRelatedToHeadquarter("PKOPPLPW")).thenReturn(branches);
-        when(entity.toHeadquarter(branches)).thenReturn(dto);
+        BranchDto headquarter = mock(BranchDto.class);
+        when(entity.toSingleBranch()).thenReturn(headquarter);
+        when(headquarter.toHeadquarter(branches)).thenReturn(dto);
         var result = swiftCodeService.getSwiftBySwiftCode(swiftCode);
         assertEquals(dto, result);
         verify(repository).findById(expectedBic11);
@@ -71,7 +107,9 @@ public class SwiftCodeServiceTest {
         List<BranchListItemDto> branches = List.of();
         when(repository.findById(expectedBic11)).thenReturn(Optional.of(entity));
         when(repository.findBranchesRelatedToHeadquarter("PKOPPLPW")).thenReturn(branches);
-        when(entity.toHeadquarter(branches)).thenReturn(dto);
+        BranchDto headquarter = mock(BranchDto.class);
+        when(entity.toSingleBranch()).thenReturn(headquarter);
+        when(headquarter.toHeadquarter(branches)).thenReturn(dto);
         var result = swiftCodeService.getSwiftBySwiftCode(swiftCode);
         assertEquals(dto, result);
         verify(repository).findById(expectedBic11);
@@ -111,14 +149,96 @@ public class SwiftCodeServiceTest {
                 () -> swiftCodeService.getSwiftBySwiftCode(swiftCode));
     }
 
+    @Test
+    void testGetSwiftBySwiftCodeUsesIndexWhenEnabled() {
+        String swiftCode = "PKOPPLPW123";
+        BranchDto branch = new BranchDto("ul. 1", "PKO", "PL", "POLAND", false, swiftCode);
+        when(swiftCodeIndex.isEnabled()).thenReturn(true);
+        when(swiftCodeIndex.snapshot()).thenReturn(snapshot);
+        when(snapshot.find(swiftCode)).thenReturn(Optional.of(branch));
+        var result = swiftCodeService.getSwiftBySwiftCode(swiftCode);
+        assertNotNull(result);
+        verify(snapshot).find(swiftCode);
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void testGetSwiftBySwiftCodeReturnsHeadquarterBranchesFromIndex() {
+        String swiftCode = "PKOPPLPWXXX";
+        BranchDto headquarter = new BranchDto("ul. 1", "PKO", "PL", "POLAND", true, swiftCode);
+        List<BranchListItemDto> branches = List.of(
+                new BranchListItemDto("ul. Warszawska 1", "PKO", "PL", false, "PKOPPLPW123"));
+        when(swiftCodeIndex.isEnabled()).thenReturn(true);
+        when(swiftCodeIndex.snapshot()).thenReturn(snapshot);
+        when(snapshot.find(swiftCode)).thenReturn(Optional.of(headquarter));
+        when(snapshot.findBranches("PKOPPLPW")).thenReturn(branches);
+        var result = swiftCodeService.getSwiftBySwiftCode(swiftCode);
+        assertEquals(headquarter.toHeadquarter(branches), result);
+        verify(repository, never()).findBranchesRelatedToHeadquarter(any());
+    }
+
+    @Test
+    void testGetSwiftBySwiftCodeThrowsWhenNotFoundInIndex() {
+        String swiftCode = "PKOPPLPW123";
+        when(swiftCodeIndex.isEnabled()).thenReturn(true);
+        when(swiftCodeIndex.snapshot()).thenReturn(snapshot);
+        when(snapshot.find(swiftCode)).thenReturn(Optional.empty());
+        assertThrows(NotFoundException.class,
+                () -> swiftCodeService.getSwiftBySwiftCode(swiftCode));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void testLookupSwiftCodesResolvesAllCodesWithGroupedQueries() {
+        SwiftCodeEntity headquarter = new SwiftCodeEntity().setSwiftCode("PKOPPLPWXXX").setName("PKO")
+                .setAddress("ul. 1").setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(true);
+        SwiftCodeEntity branch = new SwiftCodeEntity().setSwiftCode("INGBPLPW001").setName("ING")
+                .setAddress("ul. 2").setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(false);
+        List<BranchListItemDto> branches = List.of(
+                new BranchListItemDto("ul. 3", "PKO", "PL", false, "PKOPPLPW123"));
+        lenient().doThrow(new ValidationException("Incorrect length of swift code: ABC"))
+                .when(validator).checkLengthOfSwiftCode("ABC");
+        when(repository.findAllById(Set.of("PKOPPLPWXXX", "INGBPLPW001", "NOSUCHCODEX")))
+                .thenReturn(List.of(headquarter, branch));
+        when(repository.findBranchesRelatedToHeadquarters(Set.of("PKOPPLPW"))).thenReturn(branches);
+
+        SwiftCodeLookupResponseDto response = swiftCodeService.lookupSwiftCodes(
+                Arrays.asList("pkopplpw", "INGBPLPW001", "NOSUCHCODEX", "ABC", null));
+
+        List<SwiftCodeLookupResultDto> results = response.results();
+        assertEquals(5, results.size());
+        assertEquals("FOUND", results.get(0).status());
+        assertEquals(branches, ((HeadquarterResponseDto) results.get(0).result()).branches());
+        assertEquals("FOUND", results.get(1).status());
+        assertInstanceOf(BranchDto.class, results.get(1).result());
+        assertEquals("NOT_FOUND", results.get(2).status());
+        assertEquals("NOT_ACCEPTABLE", results.get(3).status());
+        assertEquals("NOT_ACCEPTABLE", results.get(4).status());
+        verify(repository, never()).findById(any());
+        verify(repository, never()).findBranchesRelatedToHeadquarter(any());
+    }
+
+    @Test
+    void testLookupSwiftCodesUsesIndexWhenEnabled() {
+        BranchDto branch = new BranchDto("ul. 1", "PKO", "PL", "POLAND", false, "PKOPPLPW001");
+        when(swiftCodeIndex.isEnabled()).thenReturn(true);
+        when(swiftCodeIndex.snapshot()).thenReturn(snapshot);
+        when(snapshot.find("PKOPPLPW001")).thenReturn(Optional.of(branch));
+
+        SwiftCodeLookupResponseDto response = swiftCodeService.lookupSwiftCodes(List.of("PKOPPLPW001"));
+
+        assertEquals("FOUND", response.results().get(0).status());
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void testGetBanksInCountryReturnsDataCorrectly() {
         String iso2 = "PL";
-        CountryDto country = new CountryDto("PL", "POLAND");
+        CountryEntity country = new CountryEntity("PL", "POLAND", 1, 0);
         List<BranchListItemDto> branches = List.of(
                 new BranchListItemDto("ul. Warszawska 1", "PKO", "PL", false, "PKOPPLPW123")
         );
-        when(repository.findCountryNameByIso2("PL")).thenReturn(Optional.of(country));
+        when(countryDictionary.find("PL")).thenReturn(Optional.of(country));
         when(repository.findSwiftCodesForCountry("PL")).thenReturn(branches);
         Iso2ResponseDto result = swiftCodeService.getBanksInCountry(iso2);
         assertEquals("PL", result.countryISO2());
@@ -131,11 +251,11 @@ public class SwiftCodeServiceTest {
     void testGetBanksInCountryReturnsDataCorrectlyLowerCase() {
         String iso2 = "pl";
         String expectedIso2 = "PL";
-        CountryDto country = new CountryDto("PL", "POLAND");
+        CountryEntity country = new CountryEntity("PL", "POLAND", 1, 0);
         List<BranchListItemDto> branches = List.of(
                 new BranchListItemDto("ul. Warszawska 1", "PKO", "PL", false, "PKOPPLPW123")
         );
-        when(repository.findCountryNameByIso2(expectedIso2)).thenReturn(Optional.of(country));
+        when(countryDictionary.find(expectedIso2)).thenReturn(Optional.of(country));
         when(repository.findSwiftCodesForCountry(expectedIso2)).thenReturn(branches);
         Iso2ResponseDto result = swiftCodeService.getBanksInCountry(iso2);
         assertEquals("PL", result.countryISO2());
@@ -144,31 +264,79 @@ public class SwiftCodeServiceTest {
         assertEquals("PKO", result.swiftCodes().get(0).bankName());
     }
 
+    @Test
+    void testGetBanksInCountryPageReturnsNextCursorWhenPageIsFull() {
+        List<BranchListItemDto> branches = List.of(
+                new BranchListItemDto("ul. 1", "PKO", "PL", false, "PKOPPLPW123"),
+                new BranchListItemDto("ul. 2", "PKO", "PL", false, "PKOPPLPW124"));
+        when(countryDictionary.find("PL")).thenReturn(Optional.of(new CountryEntity("PL", "POLAND", 1, 0)));
+        when(repository.findSwiftCodesForCountryAfter("PL", "PKOPPLPW100", Limit.of(2))).thenReturn(branches);
+        Iso2PageResponseDto result = swiftCodeService.getBanksInCountryPage("pl", "pkopplpw100", 2);
+        assertEquals("POLAND", result.countryName());
+        assertEquals(2, result.swiftCodes().size());
+        assertEquals("PKOPPLPW124", result.nextCursor());
+    }
+
+    @Test
+    void testGetBanksInCountryPageReturnsNoCursorOnLastPage() {
+        List<BranchListItemDto> branches = List.of(
+                new BranchListItemDto("ul. 1", "PKO", "PL", false, "PKOPPLPW123"));
+        when(countryDictionary.find("PL")).thenReturn(Optional.of(new CountryEntity("PL", "POLAND", 1, 0)));
+        when(repository.findSwiftCodesForCountryAfter("PL", "", Limit.of(10))).thenReturn(branches);
+        Iso2PageResponseDto result = swiftCodeService.getBanksInCountryPage("PL", null, 10);
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void testStreamBanksInCountryReadsKeysetChunks() {
+        List<BranchListItemDto> first = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            first.add(new BranchListItemDto("ul. 1", "PKO", "PL", false, String.format("PKOPPLPW%03d", i)));
+        }
+        List<BranchListItemDto> second = List.of(new BranchListItemDto("ul. 1", "PKO", "PL", false, "PKOPPLPXXXX"));
+        when(repository.findSwiftCodesForCountryAfter("PL", "", Limit.of(500))).thenReturn(first);
+        when(repository.findSwiftCodesForCountryAfter("PL", "PKOPPLPW499", Limit.of(500))).thenReturn(second);
+        List<BranchListItemDto> streamed = new ArrayList<>();
+        swiftCodeService.streamBanksInCountry("pl", streamed::add);
+        assertEquals(501, streamed.size());
+        assertEquals("PKOPPLPXXXX", streamed.get(500).swiftCode());
+    }
+
+    @Test
+    void testGetBanksInCountryPageThrowsWhenLimitOutOfRange() {
+        assertThrows(ValidationException.class, () -> swiftCodeService.getBanksInCountryPage("PL", null, 0));
+        assertThrows(ValidationException.class, () -> swiftCodeService.getBanksInCountryPage("PL", null, 1001));
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void testGetBanksInCountryThrowsWhenIso2NotFound() {
         String iso2 = "ZZ";
-        when(repository.findCountryNameByIso2(iso2)).thenReturn(Optional.empty());
+        when(countryDictionary.find(iso2)).thenReturn(Optional.empty());
         assertThrows(NotFoundException.class, () -> swiftCodeService.getBanksInCountry(iso2));
     }
 
     @Test
     void testDeleteSwiftCodeDeletesBranchWhenLengthIs11() {
         String swiftCode = "PKOPPLPWXXX";
-        when(repository.deleteByBic11("PKOPPLPWXXX")).thenReturn(1);
+        when(swiftCodeWriter.deleteAll(List.of("PKOPPLPWXXX"))).thenReturn(List.of("PKOPPLPWXXX"));
         int result = swiftCodeService.deleteSwiftCode(swiftCode);
         assertEquals(1, result);
-        verify(repository).deleteByBic11("PKOPPLPWXXX");
         verify(validator).checkLengthOfSwiftCode(swiftCode);
+        verify(swiftCodeIndex).remove("PKOPPLPWXXX");
+        verify(responseCache).invalidateSwiftCode("PKOPPLPWXXX");
     }
 
     @Test
     void testDeleteSwiftCodeDeletesHeadquarterWhenLengthIs8() {
-        String swiftCode = "PKOPPLPW";
-        when(repository.deleteHeadquarterByBic8("PKOPPLPW")).thenReturn(3);
+        String swiftCode = "pkopplpw";
+        when(swiftCodeWriter.deleteAll(List.of("PKOPPLPW")))
+                .thenReturn(List.of("PKOPPLPWXXX", "PKOPPLPW001", "PKOPPLPW002"));
         int result = swiftCodeService.deleteSwiftCode(swiftCode);
         assertEquals(3, result);
-        verify(repository).deleteHeadquarterByBic8("PKOPPLPW");
         verify(validator).checkLengthOfSwiftCode(swiftCode);
+        verify(swiftCodeIndex).removeByBic8("PKOPPLPW");
+        verify(responseCache).invalidateBank("PKOPPLPW");
     }
 
     @Test
@@ -176,15 +344,16 @@ public class SwiftCodeServiceTest {
         BranchDto dto = new BranchDto(
                 "Warszawa", "PKO", "PL",
                 "POLAND", true, "PKOPPLPWXXX");
-        when(repository.findById("PKOPPLPWXXX")).thenReturn(Optional.empty());
-        when(repository.findCountryNameRelatedToIso2("PL")).thenReturn(List.of("POLAND"));
-        when(repository.findBankNameByBic8("PKOP")).thenReturn(List.of("PKO"));
-        when(repository.findById("PKOPPLPWXXX")).thenReturn(Optional.empty());
+        when(countryDictionary.find("PL")).thenReturn(Optional.of(new CountryEntity("PL", "POLAND", 1, 0)));
+        when(bankDictionary.find("PKOPPLPW")).thenReturn(Optional.of(new BankEntity("PKOPPLPW", "PKO", 1)));
+        when(swiftCodeWriter.insert(any(SwiftCodeEntity.class))).thenReturn(true);
         swiftCodeService.createSwiftCode(dto);
         verify(validator).checkLengthOfSwiftCode("PKOPPLPWXXX");
         verify(validator).checkMatchOfCountryIsoAndSwiftCode("PKOPPLPWXXX", "PL");
         verify(validator).checkHeadquarterStatus("PKOPPLPWXXX", true);
-        verify(repository).save(any(SwiftCodeEntity.class));
+        verify(swiftCodeWriter).insert(any(SwiftCodeEntity.class));
+        verify(repository).existsById("PKOPPLPWXXX");
+        verify(repository).findBankCodesWithHeadquarter(List.of("PKOPPLPW"));
     }
 
     @Test
@@ -192,52 +361,206 @@ public class SwiftCodeServiceTest {
         BranchDto dto = new BranchDto(
                 "Warszawa", "PKO", "PL",
                 "POLAND", false, "PKOPPLPW456");
-        when(repository.findById("PKOPPLPW456")).thenReturn(Optional.empty());
-        when(repository.findCountryNameRelatedToIso2("PL")).thenReturn(List.of("POLAND"));
-        when(repository.findBankNameByBic8("PKOP")).thenReturn(List.of("PKO"));
+        when(countryDictionary.find("PL")).thenReturn(Optional.of(new CountryEntity("PL", "POLAND", 1, 0)));
+        when(bankDictionary.find("PKOPPLPW")).thenReturn(Optional.of(new BankEntity("PKOPPLPW", "PKO", 1)));
+        when(swiftCodeWriter.insert(any(SwiftCodeEntity.class))).thenReturn(true);
         swiftCodeService.createSwiftCode(dto);
         verify(validator).checkLengthOfSwiftCode("PKOPPLPW456");
         verify(validator).checkHeadquarterStatus("PKOPPLPW456", false);
-        verify(repository).save(any(SwiftCodeEntity.class));
+        verify(swiftCodeWriter).insert(any(SwiftCodeEntity.class));
+        verify(swiftCodeIndex).put(any(SwiftCodeEntity.class));
     }
 
     @Test
     void testCreateSwiftCodeThrowsWhenAlreadyExists() {
         BranchDto dto = new BranchDto("Warszawa", "PKO", "PL", "POLAND",
                 true, "PKOPPLPWXXX");
-        when(repository.findById("PKOPPLPWXXX")).thenReturn(Optional.of(mock(SwiftCodeEntity.class)));
+        when(repository.existsById("PKOPPLPWXXX")).thenReturn(true);
+        assertThrows(RecordAlreadyExistException.class, () -> swiftCodeService.createSwiftCode(dto));
+        verify(swiftCodeWriter, never()).insert(any());
+    }
+
+    @Test
+    void testCreateSwiftCodeReportsExistingRecordBeforeNameMismatch() {
+        BranchDto dto = new BranchDto("Warszawa", "Other Bank", "PL", "POLSKA",
+                false, "PKOPPLPW001");
+        when(repository.existsById("PKOPPLPW001")).thenReturn(true);
+        assertThrows(RecordAlreadyExistException.class, () -> swiftCodeService.createSwiftCode(dto));
+        verify(swiftCodeWriter, never()).insert(any());
+    }
+
+    @Test
+    void testCreateSwiftCodeThrowsWhenHeadquarterExistsBeforeInsert() {
+        BranchDto dto = new BranchDto("Warszawa", "PKO", "PL", "POLAND",
+                true, "PKOPPLPW");
+        when(countryDictionary.find("PL")).thenReturn(Optional.of(new CountryEntity("PL", "POLAND", 1, 0)));
+        when(bankDictionary.find("PKOPPLPW")).thenReturn(Optional.of(new BankEntity("PKOPPLPW", "PKO", 1)));
+        when(repository.findBankCodesWithHeadquarter(List.of("PKOPPLPW"))).thenReturn(List.of("PKOPPLPW"));
+        assertThrows(HeadquarterAlreadyExistException.class, () -> swiftCodeService.createSwiftCode(dto));
+        verify(swiftCodeWriter, never()).insert(any());
+    }
+
+    @Test
+    void testCreateSwiftCodeThrowsWhenInsertHitsPrimaryKey() {
+        BranchDto dto = new BranchDto("Warszawa", "PKO", "PL", "POLAND",
+                false, "PKOPPLPW001");
+        when(swiftCodeWriter.insert(any(SwiftCodeEntity.class))).thenThrow(new DuplicateKeyException("duplicate"));
         assertThrows(RecordAlreadyExistException.class, () -> swiftCodeService.createSwiftCode(dto));
+        verifyNoInteractions(swiftCodeIndex);
     }
 
     @Test
     void testCreateSwiftCodeThrowsWhenHqAlreadyExistsForBic8() {
         BranchDto dto = new BranchDto("Warszawa", "PKO", "PL",
                 "Poland", true,"PKOPPLPW");
-        when(repository.findById("PKOPPLPW")).thenReturn(Optional.empty());
-        when(repository.findCountryNameRelatedToIso2("PL")).thenReturn(List.of("Poland"));
-        when(repository.findBankNameByBic8("PKOP")).thenReturn(List.of("PKO"));
-        when(repository.findById("PKOPPLPWXXX")).thenReturn(Optional.of(mock(SwiftCodeEntity.class)));
+        when(countryDictionary.find("PL")).thenReturn(Optional.of(new CountryEntity("PL", "Poland", 1, 0)));
+        when(bankDictionary.find("PKOPPLPW")).thenReturn(Optional.of(new BankEntity("PKOPPLPW", "PKO", 1)));
+        when(swiftCodeWriter.insert(any(SwiftCodeEntity.class))).thenReturn(false);
+        when(repository.existsById("PKOPPLPW")).thenReturn(false);
         assertThrows(HeadquarterAlreadyExistException.class, () -> swiftCodeService.createSwiftCode(dto));
     }
 
+    @Test
+    void testCreateSwiftCodeWithHeadquarterIndexOnlyInserts() {
+        BranchDto dto = new BranchDto("Warszawa", "PKO", "PL", "POLAND",
+                true, "PKOPPLPWXXX");
+        when(swiftCodeWriter.hasHeadquarterIndex()).thenReturn(true);
+        when(swiftCodeWriter.insert(any(SwiftCodeEntity.class))).thenReturn(true);
+        swiftCodeService.createSwiftCode(dto);
+        verify(swiftCodeWriter).insert(any(SwiftCodeEntity.class));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testCreateSwiftCodeWithHeadquarterIndexChecksExistenceOnlyWhenNothingInserted() {
+        BranchDto dto = new BranchDto("Warszawa", "PKO", "PL", "POLAND",
+                false, "PKOPPLPW001");
+        when(swiftCodeWriter.hasHeadquarterIndex()).thenReturn(true);
+        when(swiftCodeWriter.insert(any(SwiftCodeEntity.class))).thenReturn(false);
+        when(repository.existsById("PKOPPLPW001")).thenReturn(true);
+        assertThrows(RecordAlreadyExistException.class, () -> swiftCodeService.createSwiftCode(dto));
+        verify(repository, times(1)).existsById("PKOPPLPW001");
+        verify(repository, never()).findBankCodesWithHeadquarter(any());
+    }
+
+    @Test
+    void testCreateSwiftCodeWithHeadquarterIndexReportsExistingRecordBeforeNameMismatch() {
+        BranchDto dto = new BranchDto("Warszawa", "Other Bank", "PL", "POLAND",
+                false, "PKOPPLPW001");
+        when(swiftCodeWriter.hasHeadquarterIndex()).thenReturn(true);
+        when(bankDictionary.find("PKOPPLPW")).thenReturn(Optional.of(new BankEntity("PKOPPLPW", "PKO", 1)));
+        when(repository.existsById("PKOPPLPW001")).thenReturn(true);
+        assertThrows(RecordAlreadyExistException.class, () -> swiftCodeService.createSwiftCode(dto));
+        verify(swiftCodeWriter, never()).insert(any());
+    }
+
     @Test
     void testCreateSwiftCodeThrowsWhenCountryNameMismatch() {
         BranchDto dto = new BranchDto("Warszawa", "PKO", "PL",
                 "POLAND", true, "PKOPPLPWXXX");
-        when(repository.findById("PKOPPLPWXXX")).thenReturn(Optional.empty());
-        when(repository.findCountryNameRelatedToIso2("PL")).thenReturn(List.of("POLSKA"));
+        when(countryDictionary.find("PL")).thenReturn(Optional.of(new CountryEntity("PL", "POLSKA", 1, 0)));
         assertThrows(FieldMismatchException.class, () -> swiftCodeService.createSwiftCode(dto));
+        verify(swiftCodeWriter, never()).insert(any());
     }
 
     @Test
     void testCreateSwiftCodeThrowsWhenBankNameMismatch() {
         BranchDto dto = new BranchDto("Warszawa", "PKO", "PL",
                 "POLAND", true, "PKOPPLPWXXX");
-        when(repository.findById("PKOPPLPWXXX")).thenReturn(Optional.empty());
-        when(repository.findCountryNameRelatedToIso2("PL")).thenReturn(List.of("POLAND"));
-        when(repository.findBankNameByBic8("PKOP")).thenReturn(List.of("ING"));
+        when(countryDictionary.find("PL")).thenReturn(Optional.of(new CountryEntity("PL", "POLAND", 1, 0)));
+        when(bankDictionary.find("PKOPPLPW")).thenReturn(Optional.of(new BankEntity("PKOPPLPW", "ING", 1)));
         assertThrows(FieldMismatchException.class, () -> swiftCodeService.createSwiftCode(dto));
+        verify(swiftCodeWriter, never()).insert(any());
     }
-}
 
+    @Test
+    void testCreateSwiftCodesRejectsExistingAndRepeatedCodes() {
+        List<BranchDto> request = List.of(
+                new BranchDto("Warszawa", "PKO", "PL", "POLAND", false, "PKOPPLPW001"),
+                new BranchDto("Warszawa", "PKO", "PL", "POLAND", false, "PKOPPLPW002"),
+                new BranchDto("Warszawa", "PKO", "PL", "POLAND", false, "pkopplpw001"));
+        when(repository.findExistingSwiftCodes(List.of("PKOPPLPW001", "PKOPPLPW002"))).thenReturn(List.of("PKOPPLPW002"));
+        when(swiftCodeWriter.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        SwiftCodeBulkCreateResponseDto response = swiftCodeService.createSwiftCodes(request);
+
+        assertEquals(1, response.created());
+        assertEquals(2, response.rejected());
+        assertEquals(List.of("CREATED", "NOT_ACCEPTABLE", "NOT_ACCEPTABLE"),
+                response.results().stream().map(SwiftCodeBulkCreateResultDto::status).toList());
+        verify(swiftCodeWriter).insertAll(argThat(entities -> entities.size() == 1
+                && entities.get(0).getSwiftCode().equals("PKOPPLPW001")));
+        verify(swiftCodeIndex).put(any(SwiftCodeEntity.class));
+        verify(repository, never()).findBankCodesWithHeadquarter(anyCollection());
+    }
+
+    @Test
+    void testCreateSwiftCodesReportsRowsSkippedByTheInsert() {
+        List<BranchDto> request = List.of(
+                new BranchDto("Warszawa", "PKO", "PL", "POLAND", false, "PKOPPLPW001"),
+                new BranchDto("Warszawa", "PKO", "PL", "POLAND", false, "PKOPPLPW002"));
+        SwiftCodeEntity first = new SwiftCodeEntity(request.get(0));
+        when(repository.findExistingSwiftCodes(anyList())).thenReturn(List.of(), List.of("PKOPPLPW002"));
+        when(swiftCodeWriter.insertAll(anyList())).thenReturn(List.of(first));
+
+        SwiftCodeBulkCreateResponseDto response = swiftCodeService.createSwiftCodes(request);
+
+        assertEquals(1, response.created());
+        assertEquals(1, response.rejected());
+        assertEquals("CREATED", response.results().get(0).status());
+        assertEquals("Record already exist for swift code PKOPPLPW002", response.results().get(1).message());
+        verify(swiftCodeIndex).put(first);
+    }
 
+    @Test
+    void testCreateSwiftCodesReportsValidationErrorsWithoutWriting() {
+        List<BranchDto> request = List.of(new BranchDto("Warszawa", "PKO", "PL", "POLAND", false, "PKO"));
+        doThrow(new ValidationException("Incorrect length of swift code: PKO"))
+                .when(validator).checkLengthOfSwiftCode("PKO");
+
+        SwiftCodeBulkCreateResponseDto response = swiftCodeService.createSwiftCodes(request);
+
+        assertEquals(0, response.created());
+        assertEquals("Incorrect length of swift code: PKO", response.results().get(0).message());
+        verifyNoInteractions(swiftCodeWriter, repository);
+    }
+
+    @Test
+    void testDeleteSwiftCodesCountsRowsUnderRequestedCode() {
+        stubDeleteAll(List.of("PKOPPLPW", "INGBPLPW001", "NOSUCHCODEX"),
+                List.of("PKOPPLPWXXX", "PKOPPLPW001"), List.of("INGBPLPW001"));
+
+        SwiftCodeBulkDeleteResponseDto response = swiftCodeService.deleteSwiftCodes(
+                List.of("pkopplpw", "INGBPLPW001", "NOSUCHCODEX"));
+
+        assertEquals(3, response.deleted());
+        assertEquals(List.of(2, 1, 0), response.results().stream().map(SwiftCodeBulkDeleteResultDto::deleted).toList());
+        assertEquals("NOT_FOUND", response.results().get(2).status());
+        verify(swiftCodeIndex).remove("PKOPPLPWXXX");
+        verify(swiftCodeIndex).remove("INGBPLPW001");
+        verify(responseCache).invalidateSwiftCode("PKOPPLPW001");
+    }
+
+    @Test
+    void testDeleteSwiftCodesAttributesRowsToExactCodeBeforeBank() {
+        stubDeleteAll(List.of("PKOPPLPW", "PKOPPLPW001"), List.of("PKOPPLPWXXX", "PKOPPLPW001", "PKOPPLPW002"));
+
+        SwiftCodeBulkDeleteResponseDto response = swiftCodeService.deleteSwiftCodes(List.of("PKOPPLPW", "PKOPPLPW001"));
+
+        assertEquals(3, response.deleted());
+        assertEquals(List.of(2, 1), response.results().stream().map(SwiftCodeBulkDeleteResultDto::deleted).toList());
+    }
+
+    @SafeVarargs
+    private void stubDeleteAll(List<String> requested, List<String>... chunks) {
+        when(swiftCodeWriter.deleteAll(eq(requested), any())).thenAnswer(invocation -> {
+            Consumer<List<String>> afterChunk = invocation.getArgument(1);
+            List<String> deleted = new ArrayList<>();
+            for (List<String> chunk : chunks) {
+                afterChunk.accept(chunk);
+                deleted.addAll(chunk);
+            }
+            return deleted;
+        });
+    }
+}
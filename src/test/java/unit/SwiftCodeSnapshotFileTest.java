@@ -0,0 +1,78 @@
+package unit;
+
+import org.home.exercise.swift.dto.BranchDto;
+import org.home.exercise.swift.dto.BranchListItemDto;
+import org.home.exercise.swift.entity.SwiftCodeEntity;
+import org.home.exercise.swift.utils.BicCodec;
+import org.home.exercise.swift.utils.SwiftCodeSnapshotFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwiftCodeSnapshotFileTest {
+    @TempDir
+    Path directory;
+
+    private SwiftCodeEntity entity(String swiftCode, String address) {
+        return new SwiftCodeEntity().setSwiftCode(swiftCode).setName("PKO").setAddress(address)
+                .setCountryISO2("PL").setCountryName("POLAND").setHeadquarter(swiftCode.endsWith("XXX"));
+    }
+
+    @Test
+    void testWriteAndReadBackSortedRecords() throws IOException {
+        Path path = directory.resolve("index.bin");
+        SwiftCodeSnapshotFile.write(path, List.of(entity("PKOPPLPW001", "ul. 1"), entity("INGBPLPWXXX", null),
+                entity("PKOPPLPWXXX", "ul. 2"), entity("PKOPPLPW", "ul. 3")), 42);
+
+        SwiftCodeSnapshotFile file = SwiftCodeSnapshotFile.open(path);
+
+        assertEquals(3, file.size());
+        assertEquals(42, file.sequenceNumber());
+        assertTrue(file.keyAt(0) < file.keyAt(1) && file.keyAt(1) < file.keyAt(2));
+        BranchDto headquarter = file.branchAt(file.indexOf(BicCodec.encode("PKOPPLPWXXX")));
+        assertEquals("PKOPPLPWXXX", headquarter.swiftCode());
+        assertEquals("ul. 2", headquarter.address());
+        assertEquals("POLAND", headquarter.countryName());
+        assertTrue(headquarter.isHeadquarter());
+        assertNull(file.branchAt(file.indexOf(BicCodec.encode("INGBPLPWXXX"))).address());
+        assertEquals(-1, file.indexOf(BicCodec.encode("PKOPPLPW002")));
+        int first = file.firstOfBank(BicCodec.encodeBic8("PKOPPLPW"));
+        BranchListItemDto branch = file.branchListItemAt(first);
+        assertEquals("PKOPPLPW001", branch.swiftCode());
+        assertEquals("ul. 1", branch.address());
+        assertFalse(file.isHeadquarterAt(first));
+        assertTrue(file.isHeadquarterAt(first + 1));
+        assertEquals("PKOPPLPWXXX", file.branchListItemAt(first + 1).swiftCode());
+        assertEquals(file.size(), file.firstOfBank(BicCodec.encodeBic8("ZZZZPLPW")));
+    }
+
+    @Test
+    void testRepeatedStringsAreStoredOnce() throws IOException {
+        Path one = directory.resolve("one.bin");
+        Path many = directory.resolve("many.bin");
+        SwiftCodeSnapshotFile.write(one, List.of(entity("PKOPPLPW001", "ul. 1")), 0);
+        SwiftCodeSnapshotFile.write(many, List.of(entity("PKOPPLPW001", "ul. 1"), entity("PKOPPLPW002", "ul. 1"),
+                entity("PKOPPLPW003", "ul. 1")), 0);
+
+        assertEquals(2 * (Long.BYTES + 20), Files.size(many) - Files.size(one));
+    }
+
+    @Test
+    void testRejectsForeignAndTruncatedFiles() throws IOException {
+        Path foreign = Files.write(directory.resolve("foreign.bin"), new byte[64]);
+        assertThrows(IllegalArgumentException.class, () -> SwiftCodeSnapshotFile.open(foreign));
+
+        Path path = directory.resolve("index.bin");
+        SwiftCodeSnapshotFile.write(path, List.of(entity("PKOPPLPW001", "ul. 1")), 0);
+        byte[] bytes = Files.readAllBytes(path);
+        Path truncated = Files.write(directory.resolve("truncated.bin"), Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(IllegalArgumentException.class, () -> SwiftCodeSnapshotFile.open(truncated));
+    }
+}
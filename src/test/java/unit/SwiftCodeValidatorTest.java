@@ -26,6 +26,14 @@ public class SwiftCodeValidatorTest {
         assertTrue(ex.getMessage().contains("countryName"));
     }
 
+    @Test
+    void testCheckRequiredFieldExistTreatsBlankAsMissing() {
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> validator.checkRequiredFieldExist(" ", "PL", "", "Poland"));
+        assertTrue(ex.getMessage().contains("swiftCode"));
+        assertTrue(ex.getMessage().contains("bankName"));
+    }
+
     @Test
     void testCheckRequiredFieldExistPositive() {
         assertDoesNotThrow(() ->
@@ -103,5 +111,33 @@ public class SwiftCodeValidatorTest {
         assertDoesNotThrow(() ->
                 validator.checkMatchOfCountryIsoAndSwiftCode("pkopplpwxxx", "PL"));
     }
-}
 
+    @Test
+    void testValidateRowValid() {
+        assertEquals(SwiftCodeValidator.VALID, validator.validateRow("PKOPPLPWXXX", "PL", "PKO", "Poland"));
+        assertEquals(SwiftCodeValidator.VALID, validator.validateRow("pkopplpw", "pl", "PKO", "Poland"));
+    }
+
+    @Test
+    void testValidateRowMissingFields() {
+        int result = validator.validateRow(null, null, "PKO", null);
+        assertEquals(SwiftCodeValidator.MISSING_SWIFT_CODE | SwiftCodeValidator.MISSING_COUNTRY_ISO2
+                | SwiftCodeValidator.MISSING_COUNTRY_NAME, result);
+        assertEquals("missing_swift_code, missing_country_iso2, missing_country_name",
+                SwiftCodeValidator.describe(result));
+    }
+
+    @Test
+    void testValidateRowInvalidLength() {
+        assertEquals(SwiftCodeValidator.INVALID_SWIFT_CODE_LENGTH,
+                validator.validateRow("PKOPP", "PL", "PKO", "Poland"));
+    }
+
+    @Test
+    void testValidateRowIso2Mismatch() {
+        assertEquals(SwiftCodeValidator.ISO2_MISMATCH, validator.validateRow("PKOPPLPWXXX", "DE", "PKO", "Poland"));
+        assertEquals(SwiftCodeValidator.ISO2_MISMATCH, validator.validateRow("PKOPPLPWXXX", "POL", "PKO", "Poland"));
+        assertEquals(SwiftCodeValidator.ISO2_MISMATCH | SwiftCodeValidator.MISSING_BANK_NAME,
+                validator.validateRow("PKOPPLPWXXX", "DE", null, "Poland"));
+    }
+}
@@ -0,0 +1,85 @@
+package unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.home.exercise.swift.component.ImportProgress;
+import org.home.exercise.swift.component.SwiftCodeResponseCache;
+import org.home.exercise.swift.component.SwiftCodeValidator;
+import org.home.exercise.swift.component.SwiftMetrics;
+import org.home.exercise.swift.dto.ImportDiffSummaryDto;
+import org.home.exercise.swift.dto.Iso2ResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SwiftMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SwiftCodeResponseCache responseCache = new SwiftCodeResponseCache(
+            true, 10, Duration.ofMinutes(1), true, 10, Duration.ofMinutes(1));
+    private final ImportProgress importProgress = new ImportProgress();
+    private final SwiftMetrics metrics = new SwiftMetrics(registry, responseCache, importProgress);
+
+    @Test
+    void testLookupCountersByStatus() {
+        metrics.lookup(SwiftMetrics.FOUND);
+        metrics.lookup(SwiftMetrics.FOUND);
+        metrics.lookup(SwiftMetrics.NOT_FOUND);
+        metrics.lookup(SwiftMetrics.NOT_ACCEPTABLE);
+
+        assertEquals(2, registry.get("swift.lookup.results").tag("status", "FOUND").counter().count());
+        assertEquals(1, registry.get("swift.lookup.results").tag("status", "NOT_FOUND").counter().count());
+        assertEquals(1, registry.get("swift.lookup.results").tag("status", "NOT_ACCEPTABLE").counter().count());
+    }
+
+    @Test
+    void testImportRowsAndBatchTimer() {
+        metrics.timeBatchFlush(() -> metrics.rowsImported(200));
+        metrics.rowSkipped(SwiftCodeValidator.MISSING_BANK_NAME | SwiftCodeValidator.ISO2_MISMATCH);
+        metrics.rowSkipped(SwiftCodeValidator.ISO2_MISMATCH);
+
+        assertEquals(200, registry.get("swift.import.rows").tag("result", "imported").counter().count());
+        assertEquals(2, registry.get("swift.import.rows").tag("result", "skipped").counter().count());
+        assertEquals(2, registry.get("swift.import.skipped").tag("reason", "iso2_mismatch").counter().count());
+        assertEquals(1, registry.get("swift.import.skipped").tag("reason", "missing_bank_name").counter().count());
+        assertEquals(0, registry.get("swift.import.skipped").tag("reason", "missing_swift_code").counter().count());
+        assertEquals(1, registry.get("swift.import.batch").timer().count());
+    }
+
+    @Test
+    void testDifferentialImportCounters() {
+        metrics.rowsChanged(new ImportDiffSummaryDto(3, 2, 1, 10, 4));
+
+        assertEquals(3, registry.get("swift.import.rows").tag("result", "inserted").counter().count());
+        assertEquals(2, registry.get("swift.import.rows").tag("result", "updated").counter().count());
+        assertEquals(1, registry.get("swift.import.rows").tag("result", "deleted").counter().count());
+        assertEquals(10, registry.get("swift.import.rows").tag("result", "unchanged").counter().count());
+    }
+
+    @Test
+    void testImportProgressGauges() {
+        importProgress.started();
+        importProgress.totalRows(200);
+        for (int i = 0; i < 50; i++) {
+            importProgress.rowRead();
+        }
+
+        assertEquals(25, registry.get("swift.import.progress").gauge().value());
+        assertTrue(registry.get("swift.import.throughput").gauge().value() > 0);
+        importProgress.finished(true);
+        assertEquals(100, registry.get("swift.import.progress").gauge().value());
+    }
+
+    @Test
+    void testCacheStatsAreExposed() {
+        responseCache.getCountry("PL", iso2 -> new Iso2ResponseDto(iso2, "POLAND", List.of()));
+        responseCache.getCountry("PL", iso2 -> new Iso2ResponseDto(iso2, "POLAND", List.of()));
+
+        assertEquals(1, registry.get("swift.cache.gets").tag("cache", "country").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1, registry.get("swift.cache.gets").tag("cache", "country").tag("result", "miss")
+                .functionCounter().count());
+    }
+}
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS swift_code_change (
+sequence_number BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+swift_code VARCHAR(11) NOT NULL,
+operation VARCHAR(10) NOT NULL,
+changed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS swift_code_change_lock (
+id INT PRIMARY KEY
+);
+
+MERGE INTO swift_code_change_lock (id) KEY (id) VALUES (1);